@@ -1,7 +1,12 @@
 package com.atlassian.mcp.auth;
 
+import com.atlassian.mcp.cache.TtlCache;
 import com.atlassian.mcp.confluence.ConfluenceClient;
+import com.atlassian.mcp.confluence.ConfluencePageCache;
+import com.atlassian.mcp.http.AtlassianHttpClients;
 import com.atlassian.mcp.jira.JiraClient;
+import com.atlassian.mcp.jira.JiraIssueCache;
+import com.atlassian.mcp.jira.JiraReferenceCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -11,11 +16,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Atlassian 클라이언트 팩토리.
  * Python의 get_jira_fetcher(), get_confluence_fetcher()와 동일한 역할.
- * 
- * 매 요청마다 Bearer 토큰으로 새로운 Client 생성.
+ *
+ * 현재 요청의 토큰에 맞는 Client 를 돌려준다. Client 는 토큰과 캐시 범위를 묶는 가벼운 래퍼로, (베이스 URL + 토큰)
+ * 지문을 키로 하는 유휴 TTL 캐시(atlassian.clientCache.*)에 두고 같은 토큰의 호출끼리 재사용한다. 캐시 키에는 토큰 평문이
+ * 남지 않는다 ({@link TokenFingerprint}).
+ *
+ * Client 가 쓰는 자원은 Client 밖의 싱글턴에 있어 Client 가 캐시에서 밀려나도 남는다:
+ * - HTTP 커넥션 풀과 필터 체인: 베이스 URL 별 ({@link AtlassianHttpClients})
+ * - Jira 참조 데이터: 토큰 범위 ({@link JiraReferenceCache})
+ * - Jira 이슈: 프로젝트 권한을 확인하고 토큰 간 공유 ({@link JiraIssueCache})
+ * - Confluence 페이지 본문: 버전 확인을 거쳐 토큰 간 공유 ({@link ConfluencePageCache})
  */
 @Service
 public class AtlassianClientFactory {
@@ -25,36 +41,67 @@ public class AtlassianClientFactory {
     private final String jiraBaseUrl;
     private final String confluenceBaseUrl;
     private final ObjectMapper mapper;
+    private final AtlassianHttpClients httpClients;
+    private final JiraReferenceCache jiraReferenceCache;
+    private final JiraIssueCache jiraIssueCache;
+    private final ConfluencePageCache confluencePageCache;
+    private final TtlCache<String, JiraClient> jiraClients;
+    private final TtlCache<String, ConfluenceClient> confluenceClients;
     
     public AtlassianClientFactory(
             @Value("${atlassian.jira.baseUrl}") String jiraBaseUrl,
             @Value("${atlassian.confluence.baseUrl}") String confluenceBaseUrl,
-            ObjectMapper mapper) {
+            ObjectMapper mapper,
+            AtlassianHttpClients httpClients,
+            JiraReferenceCache jiraReferenceCache,
+            JiraIssueCache jiraIssueCache,
+            ConfluencePageCache confluencePageCache,
+            @Value("${atlassian.clientCache.maxSize:1000}") int clientCacheMaxSize,
+            @Value("${atlassian.clientCache.idleTtl:10m}") Duration clientCacheIdleTtl) {
         this.jiraBaseUrl = jiraBaseUrl;
         this.confluenceBaseUrl = confluenceBaseUrl;
         this.mapper = mapper;
+        this.httpClients = httpClients;
+        this.jiraReferenceCache = jiraReferenceCache;
+        this.jiraIssueCache = jiraIssueCache;
+        this.confluencePageCache = confluencePageCache;
+        this.jiraClients = new TtlCache<>("jira-clients", clientCacheMaxSize, clientCacheIdleTtl);
+        this.confluenceClients = new TtlCache<>("confluence-clients", clientCacheMaxSize, clientCacheIdleTtl);
     }
     
     /**
-     * 현재 요청의 토큰으로 JiraClient 생성.
+     * 현재 요청의 토큰에 해당하는 JiraClient (캐시에 없으면 생성).
      * - security.mode=none: Authorization Bearer 토큰 사용
      * - security.mode=jwt: JIRA_TOKEN 헤더 사용
      */
     public JiraClient createJiraClient() {
         String token = getJiraToken();
-        log.debug("Creating JiraClient");
-        return new JiraClient(jiraBaseUrl, token, mapper);
+        return jiraClients.get(TokenFingerprint.of(jiraBaseUrl, token), key -> {
+            log.debug("Creating JiraClient ({})", jiraClients.stats());
+            return new JiraClient(httpClients.forBaseUrl(AtlassianHttpClients.Product.JIRA, jiraBaseUrl), token, mapper,
+                jiraReferenceCache.scope(jiraBaseUrl, token), jiraIssueCache.scope(jiraBaseUrl, token));
+        });
     }
     
     /**
-     * 현재 요청의 토큰으로 ConfluenceClient 생성.
+     * 현재 요청의 토큰에 해당하는 ConfluenceClient (캐시에 없으면 생성).
      * - security.mode=none: Authorization Bearer 토큰 사용
      * - security.mode=jwt: CONFLUENCE_TOKEN 헤더 사용
      */
     public ConfluenceClient createConfluenceClient() {
         String token = getConfluenceToken();
-        log.debug("Creating ConfluenceClient");
-        return new ConfluenceClient(confluenceBaseUrl, token, mapper);
+        return confluenceClients.get(TokenFingerprint.of(confluenceBaseUrl, token), key -> {
+            log.debug("Creating ConfluenceClient ({})", confluenceClients.stats());
+            return new ConfluenceClient(httpClients.forBaseUrl(AtlassianHttpClients.Product.CONFLUENCE, confluenceBaseUrl), token, mapper,
+                confluencePageCache.scope(confluenceBaseUrl));
+        });
+    }
+    
+    /**
+     * Client 캐시 통계 (조회 적중률, 크기 초과 축출, 유휴 만료 수).
+     */
+    public List<TtlCache.Stats> getClientCacheStats() {
+        return List.of(jiraClients.stats(), confluenceClients.stats());
     }
     
     /**
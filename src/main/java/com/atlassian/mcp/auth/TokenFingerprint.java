@@ -0,0 +1,32 @@
+package com.atlassian.mcp.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 지문.
+ * 캐시 키·로그 등 토큰을 식별해야 하지만 평문을 남기면 안 되는 곳에서 사용하는 SHA-256 해시.
+ */
+public final class TokenFingerprint {
+
+    private TokenFingerprint() {
+    }
+
+    /**
+     * 베이스 URL 과 토큰의 SHA-256 (hex).
+     * 같은 토큰이라도 다른 Atlassian 인스턴스에서는 다른 지문이 된다.
+     */
+    public static String of(String baseUrl, String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(baseUrl.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.atlassian.mcp.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축한 바이트 값을 힙 밖(메모리 매핑한 임시 파일)에 두는 크기 제한 LRU 저장소.
+ *
+ * 값은 Deflater(BEST_SPEED)로 압축해 고정 크기 블록에 나눠 쓰고, 힙에는 키와 블록 번호 목록, 호출자가 붙인 작은 메타데이터(M,
+ * 예: 버전)만 남긴다. 메타데이터가 값과 같은 슬롯에 있으므로 호출자는 별도의 힙 인덱스 없이 이 LRU 하나로 관리한다. 매핑 영역은
+ * maxBytes 까지 필요할 때 세그먼트 단위로 늘리며, 공간이 모자라면 가장 오래 접근하지 않은 값부터 축출한다.
+ * 매핑 영역은 GC 대상 힙에도, -XX:MaxDirectMemorySize 한도(Netty 버퍼와 공유)에도 잡히지 않고 OS 페이지 캐시가 관리한다.
+ * 파일은 DELETE_ON_CLOSE 로 열어 {@link #close()} 나 프로세스 종료 뒤 남지 않는다.
+ * 메타데이터와 블록 복사는 하나의 락으로 보호되며 압축·해제는 락 밖에서 한다.
+ */
+public class OffHeapStore<K, M> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapStore.class);
+
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+    private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private record Slot<M>(int[] blocks, int length, int rawLength, M meta) {
+    }
+
+    private final String name;
+    private final int blockSize;
+    private final int blocksPerSegment;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Slot<M>> slots = new LinkedHashMap<>(16, 0.75f, true);
+    // 빈 블록 번호 스택
+    private final int[] free;
+    private int freeCount;
+    private int maxBlocks;
+    private int mappedBlocks;
+    private long storedBytes;
+    private boolean closed;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public OffHeapStore(String name, Path directory, long maxBytes) {
+        this(name, directory, maxBytes, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param directory 매핑할 임시 파일을 만들 디렉터리
+     * @param maxBytes 매핑 영역의 상한 (압축된 값 기준)
+     */
+    public OffHeapStore(String name, Path directory, long maxBytes, int blockSize) {
+        if (blockSize <= 0 || maxBytes < blockSize) {
+            throw new IllegalArgumentException("maxBytes must hold at least one block: " + maxBytes);
+        }
+        this.name = name;
+        this.blockSize = blockSize;
+        this.maxBlocks = (int) Math.min(Integer.MAX_VALUE, maxBytes / blockSize);
+        this.blocksPerSegment = Math.max(1, Math.min(maxBlocks, MAX_SEGMENT_SIZE / blockSize));
+        this.free = new int[maxBlocks];
+        try {
+            Path file = Files.createTempFile(directory, "atlassian-" + name + "-", ".cache");
+            this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create off-heap cache file in " + directory, e);
+        }
+    }
+
+    public boolean put(K key, byte[] value) {
+        return put(key, value, null);
+    }
+
+    /**
+     * 값을 압축해 메타데이터와 함께 저장한다. 같은 키의 이전 값은 바꾼다.
+     *
+     * @return 저장했으면 true. 압축해도 maxBytes 보다 크거나 닫힌 저장소면 false (이전 값도 지운다)
+     */
+    public boolean put(K key, byte[] value, M meta) {
+        byte[] compressed = deflate(value);
+        int needed = Math.max(1, (compressed.length + blockSize - 1) / blockSize);
+        lock.lock();
+        try {
+            release(slots.remove(key));
+            if (closed || needed > maxBlocks || !reserve(needed)) {
+                return false;
+            }
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = free[--freeCount];
+                int offset = i * blockSize;
+                int length = Math.min(blockSize, compressed.length - offset);
+                if (length > 0) {
+                    segment(blocks[i]).put(position(blocks[i]), compressed, offset, length);
+                }
+            }
+            slots.put(key, new Slot<>(blocks, compressed.length, value.length, meta));
+            storedBytes += compressed.length;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public byte[] get(K key) {
+        return get(key, meta -> true);
+    }
+
+    /**
+     * 메타데이터가 조건에 맞을 때만 저장된 값의 압축을 푼 사본. 없거나 맞지 않으면 null.
+     */
+    public byte[] get(K key, Predicate<? super M> valid) {
+        byte[] compressed;
+        int rawLength;
+        lock.lock();
+        try {
+            Slot<M> slot = closed ? null : slots.get(key);
+            if (slot == null || !valid.test(slot.meta())) {
+                misses.incrementAndGet();
+                return null;
+            }
+            compressed = new byte[slot.length()];
+            for (int i = 0; i < slot.blocks().length; i++) {
+                int offset = i * blockSize;
+                int length = Math.min(blockSize, slot.length() - offset);
+                if (length > 0) {
+                    segment(slot.blocks()[i]).get(position(slot.blocks()[i]), compressed, offset, length);
+                }
+            }
+            rawLength = slot.rawLength();
+        } finally {
+            lock.unlock();
+        }
+        hits.incrementAndGet();
+        return inflate(compressed, rawLength);
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            release(slots.remove(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키가 조건에 맞는 값을 모두 지운다.
+     *
+     * @return 지운 값 수
+     */
+    public int invalidateIf(Predicate<? super K> condition) {
+        lock.lock();
+        try {
+            int removed = 0;
+            Iterator<Map.Entry<K, Slot<M>>> it = slots.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Slot<M>> next = it.next();
+                if (condition.test(next.getKey())) {
+                    it.remove();
+                    release(next.getValue());
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * weight 는 저장된 압축 값 바이트 수의 합. 유휴 만료가 없으므로 expirations 는 항상 0.
+     */
+    public TtlCache.Stats stats() {
+        lock.lock();
+        try {
+            return new TtlCache.Stats(name, slots.size(), hits.get(), misses.get(), evictions.get(), 0, storedBytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 매핑한 영역 크기.
+     */
+    public long getMappedBytes() {
+        lock.lock();
+        try {
+            return (long) mappedBlocks * blockSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 값을 버리고 파일을 지운다. 매핑은 버퍼가 GC 될 때 풀린다.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            slots.clear();
+            segments.clear();
+            freeCount = 0;
+            storedBytes = 0;
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Could not close off-heap cache {}: {}", name, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈 블록을 needed 개 이상 확보한다. 매핑을 늘릴 수 없으면 LRU 순서로 축출한다.
+     */
+    private boolean reserve(int needed) {
+        while (freeCount < needed && mappedBlocks < maxBlocks) {
+            if (!grow()) {
+                break;
+            }
+        }
+        Iterator<Map.Entry<K, Slot<M>>> eldest = slots.entrySet().iterator();
+        while (freeCount < needed && eldest.hasNext()) {
+            Slot<M> slot = eldest.next().getValue();
+            eldest.remove();
+            release(slot);
+            evictions.incrementAndGet();
+        }
+        return freeCount >= needed;
+    }
+
+    private boolean grow() {
+        int blocks = Math.min(blocksPerSegment, maxBlocks - mappedBlocks);
+        try {
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * blocksPerSegment * blockSize,
+                    (long) blocks * blockSize));
+        } catch (IOException | UncheckedIOException e) {
+            // 디스크 공간 부족 등: 지금 크기에서 더 늘리지 않는다
+            log.warn("Off-heap cache {} stays at {} bytes: {}", name, (long) mappedBlocks * blockSize, e.getMessage());
+            maxBlocks = mappedBlocks;
+            return false;
+        }
+        for (int i = mappedBlocks + blocks - 1; i >= mappedBlocks; i--) {
+            free[freeCount++] = i;
+        }
+        mappedBlocks += blocks;
+        return true;
+    }
+
+    private void release(Slot<M> slot) {
+        if (slot == null) {
+            return;
+        }
+        for (int block : slot.blocks()) {
+            free[freeCount++] = block;
+        }
+        storedBytes -= slot.length();
+    }
+
+    private MappedByteBuffer segment(int block) {
+        return segments.get(block / blocksPerSegment);
+    }
+
+    private int position(int block) {
+        return (block % blocksPerSegment) * blockSize;
+    }
+
+    private static byte[] deflate(byte[] value) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, value.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] value = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(value, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IllegalStateException("Corrupt off-heap cache entry: " + read + " of " + rawLength + " bytes");
+            }
+            return value;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt off-heap cache entry", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
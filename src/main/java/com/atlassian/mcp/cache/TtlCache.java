@@ -0,0 +1,246 @@
+package com.atlassian.mcp.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 제한 + 유휴 TTL 을 가진 인메모리 LRU 캐시.
+ *
+ * 마지막 접근 후 ttl 이 지나면 만료되고, maxSize 를 넘으면 가장 오래 접근하지 않은 항목부터 축출된다.
+ * weigher 를 주면 값 무게(예: 바이트 수)의 합도 maxWeight 이하로 유지하며, maxWeight 보다 무거운 값은 저장하지 않는다.
+ * 조회·축출 통계는 {@link #stats()} 로 노출한다. 모든 연산은 하나의 락으로 보호되며
+ * 값 생성({@link #get(Object, Function)} 의 loader)은 락 밖에서 실행된다.
+ */
+public class TtlCache<K, V> {
+
+    /**
+     * 캐시 통계 스냅샷.
+     *
+     * @param evictions maxSize 초과로 축출된 항목 수
+     * @param expirations 유휴 TTL 만료로 제거된 항목 수
+     * @param weight 저장된 값 무게의 합 (weigher 가 없으면 항목 수)
+     */
+    public record Stats(String name, int size, long hits, long misses, long evictions, long expirations, long weight) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt, long weight) {
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private long weight;
+
+    public TtlCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 테스트용 시계 (System.nanoTime 과 같은 단조 증가 값)
+     */
+    public TtlCache(String name, int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this(name, maxSize, Long.MAX_VALUE, value -> 1, ttl, nanoClock);
+    }
+
+    /**
+     * 무게 제한 캐시.
+     *
+     * @param maxWeight 저장된 값 무게 합의 상한
+     * @param weigher 값의 무게 (저장 시 한 번 계산)
+     */
+    public TtlCache(String name, int maxSize, long maxWeight, ToLongFunction<? super V> weigher, Duration ttl) {
+        this(name, maxSize, maxWeight, weigher, ttl, System::nanoTime);
+    }
+
+    public TtlCache(String name, int maxSize, long maxWeight, ToLongFunction<? super V> weigher, Duration ttl,
+                    LongSupplier nanoClock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 캐시된 값. 없거나 만료되었으면 null.
+     */
+    public V get(K key) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAt() - now <= 0) {
+                entries.remove(key);
+                weight -= entry.weight();
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            entries.put(key, new Entry<>(entry.value(), now + ttlNanos, entry.weight()));
+            hits.incrementAndGet();
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시된 값 또는 loader 로 새로 만든 값.
+     * 같은 키를 동시에 처음 요청하면 loader 가 여러 번 실행될 수 있고, 먼저 저장된 값이 사용된다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V created = loader.apply(key);
+        if (created == null) {
+            return null;
+        }
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            Entry<V> raced = entries.get(key);
+            if (raced != null && raced.expiresAt() - now > 0) {
+                return raced.value();
+            }
+            store(key, created, now);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            store(key, value, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키가 조건에 맞는 항목을 모두 제거한다.
+     *
+     * @return 제거한 항목 수
+     */
+    public int invalidateIf(Predicate<? super K> condition) {
+        lock.lock();
+        try {
+            int removed = 0;
+            Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Entry<V>> next = it.next();
+                if (condition.test(next.getKey())) {
+                    it.remove();
+                    weight -= next.getValue().weight();
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(name, entries.size(), hits.get(), misses.get(), evictions.get(), expirations.get(), weight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(K key, V value, long now) {
+        long valueWeight = weigher.applyAsLong(value);
+        Entry<V> replaced = valueWeight > maxWeight ? entries.remove(key)
+            : entries.put(key, new Entry<>(value, now + ttlNanos, valueWeight));
+        if (replaced != null) {
+            weight -= replaced.weight();
+        }
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        weight += valueWeight;
+        // 접근 순서상 앞쪽(가장 오래 접근하지 않은)부터 만료 항목 정리 후 크기·무게 제한 적용
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> next = eldest.next();
+            if (next.getValue().expiresAt() - now <= 0) {
+                eldest.remove();
+                weight -= next.getValue().weight();
+                expirations.incrementAndGet();
+            } else if (entries.size() > maxSize || weight > maxWeight) {
+                eldest.remove();
+                weight -= next.getValue().weight();
+                evictions.incrementAndGet();
+            } else {
+                break;
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.atlassian.mcp.confluence;
 
+import com.atlassian.mcp.http.AtlassianHttpClients;
+import com.atlassian.mcp.http.FailFastErrors;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -10,33 +12,62 @@ import java.util.Map;
 /**
  * Confluence REST API 클라이언트.
  * Confluence Cloud/Server/DC와 통신하는 기본 HTTP 클라이언트.
- * Python의 ConfluenceFetcher와 동일하게 요청별로 생성됨.
+ * Python의 ConfluenceFetcher에 해당하며 토큰 하나에 묶인다. 서버에서는 AtlassianClientFactory 가 토큰별로 만들어 재사용하고,
+ * HTTP 커넥션 풀과 페이지 캐시는 이 인스턴스 밖에서 공유된다.
  */
 public class ConfluenceClient {
     private final WebClient webClient;
+    private final String token;
     private final ObjectMapper mapper;
+    private final ConfluencePageCache.Scope pageCache;
 
     /**
      * ConfluenceClient 생성자.
      * Python의 ConfluenceFetcher(config)와 동일한 패턴.
+     * 전용 WebClient 를 새로 만들므로 테스트·단발성 용도로만 사용한다.
      */
     public ConfluenceClient(String baseUrl, String token, ObjectMapper mapper) {
-        this.mapper = mapper;
-        this.webClient = WebClient.builder()
+        this(WebClient.builder()
                 .baseUrl(baseUrl)
-                .defaultHeader("Authorization", "Bearer " + token)
                 .defaultHeader("Content-Type", "application/json")
-                .build();
+                .filter(AtlassianHttpClients.bearerToken())
+                .build(), token, mapper);
+    }
+
+    /**
+     * 공유 WebClient({@link AtlassianHttpClients#forBaseUrl}) 위에서 동작하는 ConfluenceClient.
+     * 토큰은 요청 속성으로 전달되어 커넥션 풀을 사용자 간에 공유한다.
+     */
+    public ConfluenceClient(WebClient webClient, String token, ObjectMapper mapper) {
+        this(webClient, token, mapper, ConfluencePageCache.Scope.none());
+    }
+
+    /**
+     * 버전 번호로 구분하는 공유 페이지 캐시({@link ConfluencePageCache})를 쓰는 ConfluenceClient.
+     */
+    public ConfluenceClient(WebClient webClient, String token, ObjectMapper mapper, ConfluencePageCache.Scope pageCache) {
+        this.webClient = webClient;
+        this.token = token;
+        this.mapper = mapper;
+        this.pageCache = pageCache;
     }
 
     /**
      * 페이지 조회 (ID 기반).
+     * 본문(body.storage)을 요청하면 expand=version 으로 버전만 확인하고, 같은 버전의 본문이 캐시에 있으면 다시 받지 않는다.
      * 
      * @param pageId 페이지 ID
      * @param expand 확장할 필드 (예: body.storage, version)
      * @return 페이지 JSON 데이터
      */
     public Mono<JsonNode> getPage(String pageId, String expand) {
+        if (!pageCache.caches(expand)) {
+            return fetchPage(pageId, expand);
+        }
+        return pageCache.get(expand, fetchPage(pageId, "version"), id -> fetchPage(id, expand));
+    }
+
+    private Mono<JsonNode> fetchPage(String pageId, String expand) {
         return webClient.get()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder.path("/rest/api/content/{pageId}");
@@ -45,12 +76,14 @@ public class ConfluenceClient {
                     }
                     return builder.build(pageId);
                 })
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
 
     /**
      * 페이지 검색 (제목 기반).
+     * 본문을 요청하면 제목 검색은 expand=version 으로만 하고 본문은 페이지 캐시 또는 ID 조회로 받는다.
      * 
      * @param spaceKey 스페이스 키
      * @param title 페이지 제목
@@ -58,6 +91,13 @@ public class ConfluenceClient {
      * @return 페이지 JSON 데이터
      */
     public Mono<JsonNode> getPageByTitle(String spaceKey, String title, String expand) {
+        if (!pageCache.caches(expand)) {
+            return fetchPageByTitle(spaceKey, title, expand);
+        }
+        return pageCache.get(expand, fetchPageByTitle(spaceKey, title, "version"), id -> fetchPage(id, expand));
+    }
+
+    private Mono<JsonNode> fetchPageByTitle(String spaceKey, String title, String expand) {
         return webClient.get()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder.path("/rest/api/content")
@@ -69,6 +109,7 @@ public class ConfluenceClient {
                     }
                     return builder.build();
                 })
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class)
                 .map(response -> response.path("results").get(0));
@@ -87,6 +128,7 @@ public class ConfluenceClient {
                         .queryParam("cql", cql)
                         .queryParam("limit", limit)
                         .build())
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -100,6 +142,7 @@ public class ConfluenceClient {
                     if (expand != null) builder.queryParam("expand", expand);
                     return builder.build(pageId);
                 })
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -107,6 +150,7 @@ public class ConfluenceClient {
     public Mono<JsonNode> getPageComments(String pageId) {
         return webClient.get()
                 .uri("/rest/api/content/{pageId}/child/comment?expand=body.storage", pageId)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -114,6 +158,7 @@ public class ConfluenceClient {
     public Mono<JsonNode> getPageLabels(String pageId) {
         return webClient.get()
                 .uri("/rest/api/content/{pageId}/label", pageId)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -122,6 +167,7 @@ public class ConfluenceClient {
         return webClient.post()
                 .uri("/rest/api/content/{pageId}/label", pageId)
                 .bodyValue(new Object[]{Map.of("name", labelName)})
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -130,6 +176,7 @@ public class ConfluenceClient {
         return webClient.post()
                 .uri("/rest/api/content")
                 .bodyValue(pageData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -138,17 +185,21 @@ public class ConfluenceClient {
         return webClient.put()
                 .uri("/rest/api/content/{pageId}", pageId)
                 .bodyValue(pageData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                .doOnTerminate(() -> pageCache.invalidate(pageId));
     }
 
     public Mono<Boolean> deletePage(String pageId) {
         return webClient.delete()
                 .uri("/rest/api/content/{pageId}", pageId)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(Void.class)
+                .doOnTerminate(() -> pageCache.invalidate(pageId))
                 .thenReturn(true)
-                .onErrorReturn(false);
+                .onErrorReturn(FailFastErrors::isToolFailure, false);
     }
 
     public Mono<JsonNode> addComment(String pageId, String content) {
@@ -160,6 +211,7 @@ public class ConfluenceClient {
         return webClient.post()
                 .uri("/rest/api/content")
                 .bodyValue(commentData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -170,6 +222,7 @@ public class ConfluenceClient {
                         .queryParam("cql", cql)
                         .queryParam("limit", limit)
                         .build())
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -0,0 +1,306 @@
+package com.atlassian.mcp.confluence;
+
+import com.atlassian.mcp.cache.OffHeapStore;
+import com.atlassian.mcp.cache.TtlCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 버전 번호로 구분하는 Confluence 페이지 본문 캐시 (atlassian.confluence.pageCache.*).
+ *
+ * Confluence 페이지 내용은 버전 번호가 같으면 바뀌지 않는다. 매 조회마다 호출자 토큰으로 expand=version 만 받아 현재 버전을
+ * 확인하고, 저장된 본문의 버전과 같으면 본문을 다시 받지 않는다. 이 확인 요청이 권한 확인도 겸하므로 (베이스 URL, 페이지 id,
+ * expand) 별 본문 하나를 토큰 간에 공유한다. 버전이 바뀌면 새 본문으로 바꾼다. 본문은 gzip 으로 압축해 두고 꺼낼 때마다 새
+ * JsonNode 로 푼다.
+ *
+ * 버전과 함께 바뀌는 확장(body.storage, version, space)만 캐시한다. 보는 사람마다 렌더링이 다른 body.view 나 버전과 무관하게
+ * 바뀌는 children, restrictions 등을 포함한 요청은 그대로 조회한다. 스페이스 이름처럼 버전 밖에서 바뀌는 값을 위해 maxAge 가
+ * 지난 항목은 다시 받는다.
+ *
+ * offHeap.maxBytes 가 0 보다 크면(기본 0, 선택) 본문은 힙 밖의 {@link OffHeapStore} 에 두고, 버전과 저장 시각은 같은 슬롯의
+ * 메타데이터로 둔다. 이때는 힙 쪽 TTL 캐시를 쓰지 않으므로 두 저장소가 따로 축출되는 일이 없고, maxEntries·maxBytes 대신
+ * offHeap.maxBytes 가 압축된 본문 크기 합의 상한이 된다. 유휴 만료가 없는 대신 maxAge 가 지난 항목은 조회 때 무시되고
+ * LRU 로 밀려난다. 매핑 파일은 힙 한도에 잡히지 않지만 페이지 캐시로 컨테이너 cgroup 메모리에는 잡히고, /tmp 가 tmpfs 면
+ * 그대로 RAM 이다. 그래서 기본은 꺼져 있고, 켜려면 디스크에 있는 offHeap.directory 도 지정해야 한다.
+ */
+@Component
+public class ConfluencePageCache implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfluencePageCache.class);
+
+    /** 페이지 버전과 함께만 바뀌고 보는 사람과 무관한 확장. */
+    static final Set<String> VERSIONED_EXPANDS = Set.of("body.storage", "version", "space");
+
+    private record Key(String tenant, String pageId, String expand) {
+    }
+
+    /** gzipped 는 본문을 힙 밖에 둘 때 null (메타데이터로만 쓰임). */
+    private record Entry(int version, byte[] gzipped, long loadedAt) {
+    }
+
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    // 본문을 힙에 둘 때만 쓴다
+    private final TtlCache<Key, Entry> pages;
+    private final OffHeapStore<Key, Entry> offHeap;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong rawBytes = new AtomicLong();
+
+    @Autowired
+    public ConfluencePageCache(
+            ObjectMapper mapper,
+            @Value("${atlassian.confluence.pageCache.enabled:true}") boolean enabled,
+            @Value("${atlassian.confluence.pageCache.maxEntries:2000}") int maxEntries,
+            @Value("${atlassian.confluence.pageCache.maxBytes:64MB}") DataSize maxBytes,
+            @Value("${atlassian.confluence.pageCache.maxAge:1h}") Duration maxAge,
+            @Value("${atlassian.confluence.pageCache.offHeap.maxBytes:0}") DataSize offHeapMaxBytes,
+            @Value("${atlassian.confluence.pageCache.offHeap.directory:}") String offHeapDirectory) {
+        this(mapper, enabled, maxEntries, maxBytes.toBytes(), maxAge,
+                offHeapDirectory.isBlank() ? requireDirectory(offHeapMaxBytes) : offHeapMaxBytes.toBytes(),
+                offHeapDirectory.isBlank() ? null : Path.of(offHeapDirectory), System::nanoTime);
+    }
+
+    /**
+     * directory 없이 offHeap.maxBytes 만 준 설정은 무시한다 (java.io.tmpdir 는 tmpfs 일 수 있다).
+     */
+    private static long requireDirectory(DataSize offHeapMaxBytes) {
+        if (offHeapMaxBytes.toBytes() > 0) {
+            log.warn("Ignoring atlassian.confluence.pageCache.offHeap.maxBytes={}: set offHeap.directory "
+                    + "(ATLASSIAN_CACHE_DIR) to a disk-backed directory to keep page bodies off heap", offHeapMaxBytes);
+        }
+        return 0;
+    }
+
+    /**
+     * @param maxEntries 힙에 두는 본문 수의 상한
+     * @param maxBytes 힙에 두는 압축된 본문 크기 합의 상한
+     * @param offHeapMaxBytes 0 보다 크면 본문을 이 크기까지 offHeapDirectory 의 매핑 파일에 둔다
+     * @param nanoClock 테스트용 시계
+     */
+    ConfluencePageCache(ObjectMapper mapper, boolean enabled, int maxEntries, long maxBytes, Duration maxAge,
+                        long offHeapMaxBytes, Path offHeapDirectory, LongSupplier nanoClock) {
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.nanoClock = nanoClock;
+        this.pages = new TtlCache<>("confluence-pages", maxEntries, maxBytes,
+                entry -> entry.gzipped() == null ? 0 : entry.gzipped().length, maxAge, nanoClock);
+        this.offHeap = enabled && offHeapMaxBytes > 0 ? openOffHeap(offHeapDirectory, offHeapMaxBytes) : null;
+    }
+
+    private static OffHeapStore<Key, Entry> openOffHeap(Path directory, long maxBytes) {
+        try {
+            return new OffHeapStore<>("confluence-pages", directory, maxBytes);
+        } catch (RuntimeException e) {
+            log.warn("Keeping Confluence page bodies on heap; off-heap cache unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 베이스 URL 하나에 묶인 캐시.
+     */
+    public Scope scope(String tenant) {
+        return new Scope(this, tenant);
+    }
+
+    /**
+     * 본문을 둔 저장소(힙 또는 힙 밖)의 통계. weight 는 압축된 본문 바이트 수의 합.
+     */
+    public TtlCache.Stats stats() {
+        return offHeap != null ? offHeap.stats() : pages.stats();
+    }
+
+    boolean isOffHeap() {
+        return offHeap != null;
+    }
+
+    @Override
+    public void destroy() {
+        if (offHeap != null) {
+            offHeap.close();
+        }
+    }
+
+    /**
+     * 버전 확인만으로 본문을 내준 횟수.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * 저장한 본문의 압축 전 바이트 수 합 (누적).
+     */
+    public long getStoredRawBytes() {
+        return rawBytes.get();
+    }
+
+    static boolean isCacheable(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+        var items = Arrays.asList(normalizeExpand(expand).split(","));
+        return items.contains("body.storage") && VERSIONED_EXPANDS.containsAll(items);
+    }
+
+    /**
+     * 캐시 키용 expand: 항목을 다듬고 중복·빈 항목을 빼고 정렬한다 ("version, body.storage" == "body.storage,version").
+     * 업스트림에는 원래 문자열이 그대로 가므로 대소문자는 바꾸지 않는다 — "Body.Storage" 는 다른 응답일 수 있다.
+     */
+    static String normalizeExpand(String expand) {
+        return Arrays.stream(expand.split(","))
+                .map(String::strip)
+                .filter(item -> !item.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private Mono<JsonNode> get(String tenant, String expand, Mono<JsonNode> probe,
+                               Function<String, Mono<JsonNode>> fetchById) {
+        return probe.flatMap(current -> {
+            String pageId = current.path("id").asText(null);
+            int version = current.path("version").path("number").asInt(-1);
+            if (pageId == null || version < 0) {
+                return Mono.error(new IllegalStateException("Confluence page has no id or version"));
+            }
+            Key key = new Key(tenant, pageId, normalizeExpand(expand));
+            JsonNode cached = read(key, version);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Mono.just(cached);
+            }
+            return fetchById.apply(pageId).doOnNext(page -> store(key, page));
+        });
+    }
+
+    private void store(Key key, JsonNode page) {
+        // 확인 뒤 조회 사이에 수정되었을 수 있으므로 받은 본문의 버전으로 저장한다
+        int version = page.path("version").path("number").asInt(-1);
+        if (version < 0 || !key.pageId().equals(page.path("id").asText())) {
+            return;
+        }
+        try {
+            byte[] raw = mapper.writeValueAsBytes(page);
+            if (offHeap == null) {
+                pages.put(key, new Entry(version, gzip(raw), nanoClock.getAsLong()));
+            } else if (!offHeap.put(key, raw, new Entry(version, null, nanoClock.getAsLong()))) {
+                return;
+            }
+            rawBytes.addAndGet(raw.length);
+        } catch (IOException e) {
+            log.debug("Could not cache Confluence page {}: {}", key.pageId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이 버전으로 maxAge 안에 저장된 본문을 새 JsonNode 로 푼다. 없거나 버전이 다르거나 풀 수 없으면 null.
+     */
+    private JsonNode read(Key key, int version) {
+        long now = nanoClock.getAsLong();
+        Predicate<Entry> current = entry -> entry.version() == version && now - entry.loadedAt() < maxAgeNanos;
+        try {
+            if (offHeap != null) {
+                byte[] raw = offHeap.get(key, current);
+                return raw == null ? null : mapper.readTree(raw);
+            }
+            Entry entry = pages.get(key);
+            if (entry == null || !current.test(entry)) {
+                return null;
+            }
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.gzipped()))) {
+                return mapper.readTree(in);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Could not read cached Confluence page {}: {}", key.pageId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void invalidate(String tenant, String pageId) {
+        Predicate<Key> page = key -> key.tenant().equals(tenant) && key.pageId().equals(pageId);
+        int removed = offHeap != null ? offHeap.invalidateIf(page) : pages.invalidateIf(page);
+        log.debug("Invalidated {} cached variants of Confluence page {}", removed, pageId);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 요청별 ConfluenceClient 가 쓰는 캐시 view. {@link #none()} 은 캐시 없이 항상 조회한다.
+     */
+    public static final class Scope {
+
+        private static final Scope NONE = new Scope(null, null);
+
+        private final ConfluencePageCache cache;
+        private final String tenant;
+
+        private Scope(ConfluencePageCache cache, String tenant) {
+            this.cache = cache;
+            this.tenant = tenant;
+        }
+
+        public static Scope none() {
+            return NONE;
+        }
+
+        /**
+         * 이 expand 로 받은 페이지를 캐시할 수 있는지.
+         */
+        public boolean caches(String expand) {
+            return cache != null && cache.enabled && isCacheable(expand);
+        }
+
+        /**
+         * @param probe 호출자 토큰으로 expand=version 만 받은 페이지 (id, version.number)
+         * @param fetchById 버전이 다르거나 캐시에 없을 때 페이지 id 로 본문까지 받는 요청
+         */
+        public Mono<JsonNode> get(String expand, Mono<JsonNode> probe, Function<String, Mono<JsonNode>> fetchById) {
+            return cache.get(tenant, expand, probe, fetchById);
+        }
+
+        /**
+         * 페이지의 모든 변형을 지운다.
+         */
+        public void invalidate(String pageId) {
+            if (cache != null) {
+                cache.invalidate(tenant, pageId);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
  package com.atlassian.mcp.confluence;
 
+import com.atlassian.mcp.http.FailFastErrors;
 import com.fasterxml.jackson.databind.JsonNode;
 import reactor.core.publisher.Mono;
 
@@ -58,7 +59,7 @@ public class ConfluenceTools {
 
         return pageMono
                 .map(node -> convertPageToSimplified(node, includeMetadata))
-                .onErrorResume(e -> Mono.just(Map.of(
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of(
                         "success", false,
                         "error", e.getMessage()
                 )));
@@ -99,7 +100,7 @@ public class ConfluenceTools {
 
         return getClient().search(cql, limit)
                 .map(this::convertSearchResults)
-                .onErrorResume(e -> Mono.just(Map.of(
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of(
                         "success", false,
                         "error", e.getMessage(),
                         "query", query
@@ -203,7 +204,7 @@ public class ConfluenceTools {
                             "results", children
                     );
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -233,7 +234,7 @@ public class ConfluenceTools {
                     });
                     return Map.<String, Object>of("success", true, "comments", comments);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -257,7 +258,7 @@ public class ConfluenceTools {
                     node.path("results").forEach(label -> labels.add(label.path("name").asText()));
                     return Map.<String, Object>of("success", true, "labels", labels);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -284,7 +285,7 @@ public class ConfluenceTools {
                     node.path("results").forEach(label -> labels.add(label.path("name").asText()));
                     return Map.<String, Object>of("success", true, "labels", labels);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -330,7 +331,7 @@ public class ConfluenceTools {
                         "title", node.path("title").asText(),
                         "url", node.path("_links").path("webui").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -382,7 +383,7 @@ public class ConfluenceTools {
                         "title", node.path("title").asText(),
                         "version", node.path("version").path("number").asInt()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -405,7 +406,7 @@ public class ConfluenceTools {
                         "success", success,
                         "message", success ? "Page deleted successfully" : "Failed to delete page"
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -431,7 +432,7 @@ public class ConfluenceTools {
                         "success", true,
                         "id", node.path("id").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -469,6 +470,6 @@ public class ConfluenceTools {
                     });
                     return Map.<String, Object>of("success", true, "users", users);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 }
@@ -0,0 +1,111 @@
+package com.atlassian.mcp.core;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A value that is serialized as a JSON <em>string</em> containing its own JSON encoding.
+ * <p>
+ * MCP text content carries the tool result as JSON text. Instead of materializing that text with
+ * {@code writeValueAsString} (and escaping it again when the response is written), the serializer
+ * encodes the value into a small buffer and streams it, escaped, straight into the response generator.
+ * Peak memory per call is bounded by the generator buffers, independent of the result size.
+ */
+@JsonSerialize(using = JsonText.Serializer.class)
+public final class JsonText {
+
+    private final Object value;
+
+    public JsonText(Object value) {
+        this.value = value;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonText[" + (value == null ? "null" : value.getClass().getSimpleName()) + "]";
+    }
+
+    static final class Serializer extends StdSerializer<JsonText> {
+
+        private static final JsonFactory FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        Serializer() {
+            super(JsonText.class);
+        }
+
+        @Override
+        public void serialize(JsonText text, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            // 여는 따옴표는 writeRawValue 로 써야 필드/배열 구분자(: ,)가 올바르게 붙는다
+            gen.writeRawValue("\"");
+            try (EscapingWriter escaped = new EscapingWriter(gen);
+                 JsonGenerator inner = FACTORY.createGenerator(escaped)) {
+                provider.defaultSerializeValue(text.value, inner);
+                inner.flush();
+            }
+            gen.writeRaw('"');
+        }
+    }
+
+    /**
+     * Writer that JSON-escapes everything written to it and forwards it as raw output.
+     * A trailing high surrogate is held back so a pair is never split across two raw writes.
+     */
+    private static final class EscapingWriter extends Writer {
+
+        private final JsonGenerator target;
+        private final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        private char pendingHighSurrogate;
+
+        EscapingWriter(JsonGenerator target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            StringBuilder chunk = new StringBuilder(length + 1);
+            if (pendingHighSurrogate != 0) {
+                chunk.append(pendingHighSurrogate);
+                pendingHighSurrogate = 0;
+            }
+            int end = offset + length;
+            if (Character.isHighSurrogate(chars[end - 1])) {
+                pendingHighSurrogate = chars[end - 1];
+                end--;
+            }
+            chunk.append(chars, offset, end - offset);
+            if (!chunk.isEmpty()) {
+                char[] quoted = encoder.quoteAsString(chunk);
+                target.writeRaw(quoted, 0, quoted.length);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // 대상 생성기가 버퍼링/flush 를 담당
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (pendingHighSurrogate != 0) {
+                char[] quoted = encoder.quoteAsString(String.valueOf(pendingHighSurrogate));
+                pendingHighSurrogate = 0;
+                target.writeRaw(quoted, 0, quoted.length);
+            }
+        }
+    }
+}
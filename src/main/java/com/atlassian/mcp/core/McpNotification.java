@@ -0,0 +1,25 @@
+package com.atlassian.mcp.core;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * MCP JSON-RPC 2.0 Notification (server → client, no id)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class McpNotification {
+    private String jsonrpc = "2.0";
+    private String method;
+    private Map<String, Object> params;
+
+    public static McpNotification of(String method, Map<String, Object> params) {
+        return new McpNotification("2.0", method, params);
+    }
+}
@@ -0,0 +1,28 @@
+package com.atlassian.mcp.core;
+
+import reactor.util.context.ContextView;
+
+/**
+ * Channel for server-initiated MCP notifications.
+ * The transport places the notifier of the current request into the Reactor context,
+ * so tools can emit notifications without knowing whether the client is reading
+ * an SSE/NDJSON stream, a session stream, or nothing at all.
+ */
+@FunctionalInterface
+public interface McpNotifier {
+
+    /** Reactor context key under which the transport stores the notifier. */
+    String CONTEXT_KEY = McpNotifier.class.getName();
+
+    /** Notifier that drops every notification (plain JSON response, no session stream). */
+    McpNotifier NONE = notification -> { };
+
+    void send(McpNotification notification);
+
+    /**
+     * Notifier of the current request, or {@link #NONE} if the transport did not provide one.
+     */
+    static McpNotifier from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, NONE);
+    }
+}
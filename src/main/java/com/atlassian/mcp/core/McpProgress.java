@@ -0,0 +1,84 @@
+package com.atlassian.mcp.core;
+
+import reactor.core.publisher.Flux;
+import reactor.util.context.ContextView;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Progress reporter for a tools/call that carried {@code _meta.progressToken}.
+ * The request handler places it into the Reactor context; fan-out tools wrap their
+ * sub-request Flux with {@link #track} and each completed element emits a
+ * {@code notifications/progress} message through the request's {@link McpNotifier}.
+ * Without a progress token, {@link #track} returns the Flux unchanged.
+ */
+public final class McpProgress {
+
+    /** Reactor context key under which the request handler stores the reporter. */
+    public static final String CONTEXT_KEY = McpProgress.class.getName();
+
+    private final Object progressToken;
+    private final McpNotifier notifier;
+
+    public McpProgress(Object progressToken, McpNotifier notifier) {
+        this.progressToken = progressToken;
+        this.notifier = notifier;
+    }
+
+    /**
+     * Emit one progress notification.
+     *
+     * @param progress Completed units so far (must increase with each call)
+     * @param total Total units, or null if unknown
+     * @param message Optional human-readable message
+     */
+    public void report(long progress, Long total, String message) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("progressToken", progressToken);
+        params.put("progress", progress);
+        if (total != null) {
+            params.put("total", total);
+        }
+        if (message != null) {
+            params.put("message", message);
+        }
+        notifier.send(McpNotification.of("notifications/progress", params));
+    }
+
+    /**
+     * Report progress as each element of a fan-out completes.
+     *
+     * @param items Sub-request results
+     * @param total Expected number of elements, or -1 if unknown
+     */
+    public static <T> Flux<T> track(Flux<T> items, long total) {
+        return track(items, total, item -> null);
+    }
+
+    /**
+     * Report progress as each element of a fan-out completes, with a per-element message
+     * (e.g. the issue key) so clients can show which result just arrived.
+     */
+    public static <T> Flux<T> track(Flux<T> items, long total, Function<? super T, String> message) {
+        return Flux.deferContextual(context -> {
+            McpProgress progress = from(context);
+            if (progress == null) {
+                return items;
+            }
+            AtomicLong completed = new AtomicLong();
+            Long knownTotal = total >= 0 ? total : null;
+            return items.doOnNext(item ->
+                progress.report(completed.incrementAndGet(), knownTotal, message.apply(item)));
+        });
+    }
+
+    /**
+     * Reporter of the current request, or null if the client did not ask for progress.
+     */
+    public static McpProgress from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+}
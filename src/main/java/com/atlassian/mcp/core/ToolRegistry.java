@@ -1,13 +1,21 @@
 package com.atlassian.mcp.core;
 
+import reactor.core.publisher.Mono;
+
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 public class ToolRegistry {
     private final Map<String, Function<Object, Object>> tools = new ConcurrentHashMap<>();
+    private final Map<String, Function<Object, Mono<?>>> asyncTools = new ConcurrentHashMap<>();
     private final Map<String, ToolMetadata> metadata = new ConcurrentHashMap<>();
+    private final AtomicLong revision = new AtomicLong();
+    private volatile MetadataIndex index = MetadataIndex.of(Map.of());
 
     /**
      * Register a tool with its metadata and handler function.
@@ -19,7 +27,9 @@ public class ToolRegistry {
      */
     public void register(String name, String description, Map<String, Object> inputSchema, Function<Object, Object> handler) {
         tools.put(name, handler);
+        asyncTools.remove(name);
         metadata.put(name, new ToolMetadata(name, description, inputSchema, true)); // default to read-only
+        metadataChanged();
     }
 
     /**
@@ -33,7 +43,40 @@ public class ToolRegistry {
      */
     public void register(String name, String description, Map<String, Object> inputSchema, boolean readOnly, Function<Object, Object> handler) {
         tools.put(name, handler);
+        asyncTools.remove(name);
         metadata.put(name, new ToolMetadata(name, description, inputSchema, readOnly));
+        metadataChanged();
+    }
+
+    /**
+     * Register a non-blocking tool whose handler returns a {@link Mono}.
+     * The tool is treated as read-only.
+     *
+     * @param name Tool name
+     * @param description Tool description
+     * @param inputSchema JSON Schema for input parameters
+     * @param handler Function returning the pending tool result
+     */
+    public void registerAsync(String name, String description, Map<String, Object> inputSchema, Function<Object, Mono<?>> handler) {
+        registerAsync(name, description, inputSchema, true, handler);
+    }
+
+    /**
+     * Register a non-blocking tool whose handler returns a {@link Mono}.
+     * {@link #invoke} still works for such tools by blocking on the result;
+     * {@link #invokeAsync} hands the Mono through untouched.
+     *
+     * @param name Tool name
+     * @param description Tool description
+     * @param inputSchema JSON Schema for input parameters
+     * @param readOnly Whether this tool is read-only (true) or write operation (false)
+     * @param handler Function returning the pending tool result
+     */
+    public void registerAsync(String name, String description, Map<String, Object> inputSchema, boolean readOnly, Function<Object, Mono<?>> handler) {
+        asyncTools.put(name, handler);
+        tools.put(name, params -> handler.apply(params).block());
+        metadata.put(name, new ToolMetadata(name, description, inputSchema, readOnly));
+        metadataChanged();
     }
 
     /**
@@ -41,8 +84,10 @@ public class ToolRegistry {
      */
     public void register(String name, Function<Object, Object> handler) {
         tools.put(name, handler);
+        asyncTools.remove(name);
         // Create minimal metadata with placeholder description
         metadata.put(name, new ToolMetadata(name, "Atlassian tool: " + name, Map.of()));
+        metadataChanged();
     }
 
     public boolean has(String name) { 
@@ -55,6 +100,25 @@ public class ToolRegistry {
         return fn.apply(params);
     }
 
+    /**
+     * Invoke a tool without blocking the calling thread.
+     * The handler itself runs on the caller's thread, so request-scoped lookups
+     * (e.g. the current user's Atlassian token) resolve before the Mono is returned.
+     * Blocking tools registered via {@link #register} complete immediately.
+     *
+     * @param name Tool name
+     * @param params Tool parameters
+     * @return Mono emitting the tool result (empty if the tool returned null)
+     * @throws IllegalArgumentException if the tool is unknown
+     */
+    public Mono<Object> invokeAsync(String name, Object params) {
+        Function<Object, Mono<?>> async = asyncTools.get(name);
+        if (async != null) {
+            return async.apply(params).cast(Object.class);
+        }
+        return Mono.justOrEmpty(invoke(name, params));
+    }
+
     /**
      * Get metadata for a specific tool.
      *
@@ -62,16 +126,71 @@ public class ToolRegistry {
      * @return ToolMetadata or null if not found
      */
     public ToolMetadata getMetadata(String name) {
-        return metadata.get(name);
+        return index.byName.get(name);
     }
 
     /**
-     * Get metadata for all registered tools.
+     * Get metadata for all registered tools, ordered by name.
      *
-     * @return Collection of all ToolMetadata objects
+     * @return Immutable collection of all ToolMetadata objects
      */
     public Collection<ToolMetadata> getAllMetadata() {
-        return metadata.values();
+        return index.all;
+    }
+
+    /**
+     * Get metadata for read-only tools only, ordered by name.
+     * Prebuilt at registration time, so readonly listings do not filter per request.
+     *
+     * @return Immutable list of read-only ToolMetadata objects
+     */
+    public List<ToolMetadata> getReadOnlyMetadata() {
+        return index.readOnly;
+    }
+
+    /**
+     * Whether the tool is registered as a write operation (single hash lookup).
+     * Unknown tools are not write tools; invoking them fails with "Unknown tool".
+     *
+     * @param name Tool name
+     * @return true if the tool exists and is not read-only
+     */
+    public boolean isWriteTool(String name) {
+        ToolMetadata meta = name != null ? index.byName.get(name) : null;
+        return meta != null && !meta.isReadOnly();
+    }
+
+    /**
+     * Registration counter, incremented whenever a tool is (re-)registered.
+     * Caches derived from the tool list compare it to detect changes.
+     */
+    public long revision() {
+        return revision.get();
+    }
+
+    /**
+     * Rebuild the immutable lookup index after a registration.
+     * Registration happens at startup, so a full rebuild per call is cheap.
+     */
+    private synchronized void metadataChanged() {
+        index = MetadataIndex.of(metadata);
+        revision.incrementAndGet();
+    }
+
+    /**
+     * Immutable snapshot of the registered metadata: name table plus full and read-only views.
+     */
+    private record MetadataIndex(Map<String, ToolMetadata> byName, List<ToolMetadata> all, List<ToolMetadata> readOnly) {
+
+        static MetadataIndex of(Map<String, ToolMetadata> metadata) {
+            List<ToolMetadata> all = metadata.values().stream()
+                .sorted(Comparator.comparing(ToolMetadata::getName))
+                .toList();
+            return new MetadataIndex(
+                Map.copyOf(metadata),
+                all,
+                all.stream().filter(ToolMetadata::isReadOnly).toList());
+        }
     }
 
     /**
@@ -0,0 +1,138 @@
+package com.atlassian.mcp.http;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD 로 속도를 조절하는 토큰 버킷 (GCRA 예약 방식).
+ *
+ * - {@link #reserve} 는 허용 시각까지의 대기 시간을 예약해 돌려주고, maxWait 을 넘으면 거절(null)한다.
+ *   대기 중인 요청 수는 maxWait x rate 로 제한된다. 보내지 않은 예약은 {@link #release} 로 돌려준다.
+ * - 성공 응답마다 초당 additiveIncrease 만큼 속도를 올리고(합산 증가),
+ *   429 에는 decreaseFactor 를, 한도 근접 신호에는 nearLimitFactor 를 곱해 줄인다(곱셈 감소).
+ *   감소는 cooldown 마다 한 번만 적용해 동시에 돌아온 429 여러 개로 속도가 붕괴하지 않게 한다.
+ * - 429 의 재시도 시각(Retry-After / X-RateLimit-Reset)까지는 새 요청을 보내지 않는다.
+ */
+public class AdaptiveRateLimiter {
+
+    private final String name;
+    private final double minRate;
+    private final double maxRate;
+    private final int burst;
+    private final double decreaseFactor;
+    private final double nearLimitFactor;
+    private final double additiveIncrease;
+    private final long cooldownNanos;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private long theoreticalArrival;
+    // 429 로 멈춘 동안 release 가 재개 시각을 앞당기지 않도록 하는 하한
+    private long pausedUntil;
+    private long lastDecrease;
+    private long rejected;
+
+    public AdaptiveRateLimiter(String name, double initialRate, double minRate, double maxRate, int burst,
+                               double decreaseFactor, double nearLimitFactor, double additiveIncrease,
+                               Duration cooldown, LongSupplier nanoClock) {
+        this.name = name;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.burst = Math.max(1, burst);
+        this.decreaseFactor = decreaseFactor;
+        this.nearLimitFactor = nearLimitFactor;
+        this.additiveIncrease = additiveIncrease;
+        this.cooldownNanos = cooldown.toNanos();
+        this.nanoClock = nanoClock;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        long now = nanoClock.getAsLong();
+        this.theoreticalArrival = now;
+        this.pausedUntil = now;
+        this.lastDecrease = now - cooldownNanos;
+    }
+
+    /**
+     * 요청 하나의 전송 시각 예약.
+     *
+     * @return 전송 전 대기 시간, maxWait 보다 오래 기다려야 하면 null (예약하지 않음)
+     */
+    public synchronized Duration reserve(Duration maxWait) {
+        long now = nanoClock.getAsLong();
+        long interval = interval();
+        long next = Math.max(theoreticalArrival, now) + interval;
+        long wait = Math.max(0, next - now - burst * interval);
+        if (wait > maxWait.toNanos()) {
+            rejected++;
+            return null;
+        }
+        theoreticalArrival = next;
+        return Duration.ofNanos(wait);
+    }
+
+    /**
+     * 보내지 않은 예약 하나를 돌려준다 (다른 한도에서 거절되었거나 대기 중 취소됨).
+     */
+    public synchronized void release() {
+        long now = nanoClock.getAsLong();
+        theoreticalArrival = Math.max(Math.max(now, pausedUntil), theoreticalArrival - interval());
+    }
+
+    /**
+     * 다음 요청이 허용되기까지 남은 시간 (거절 응답의 재시도 힌트).
+     */
+    public synchronized Duration timeUntilAvailable() {
+        long now = nanoClock.getAsLong();
+        long interval = interval();
+        return Duration.ofNanos(Math.max(0, Math.max(theoreticalArrival, now) + interval - now - burst * interval));
+    }
+
+    /** 정상 응답: 합산 증가. */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + additiveIncrease / Math.max(rate, 1.0));
+    }
+
+    /** 한도 근접 신호 (X-RateLimit-NearLimit, 낮은 X-RateLimit-Remaining): 완만한 감소. */
+    public synchronized void onNearLimit() {
+        decrease(nearLimitFactor);
+    }
+
+    /**
+     * 429 응답: 곱셈 감소 후 pause 동안 전송 중단.
+     *
+     * @param pause 서버가 알려준 재시도 대기 시간, 없으면 null
+     */
+    public synchronized void onThrottled(Duration pause) {
+        decrease(decreaseFactor);
+        if (pause != null && !pause.isNegative()) {
+            // 첫 요청이 정확히 pause 후에 허용되도록 버스트 허용치만큼 뒤로 민다
+            long resumeAt = nanoClock.getAsLong() + pause.toNanos() + (burst - 1) * interval();
+            theoreticalArrival = Math.max(theoreticalArrival, resumeAt);
+            pausedUntil = Math.max(pausedUntil, resumeAt);
+        }
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void decrease(double factor) {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecrease < cooldownNanos) {
+            return;
+        }
+        lastDecrease = now;
+        rate = Math.max(minRate, rate * factor);
+    }
+
+    private long interval() {
+        return (long) (1_000_000_000L / rate);
+    }
+}
@@ -0,0 +1,203 @@
+package com.atlassian.mcp.http;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atlassian 베이스 URL 별 공유 WebClient.
+ *
+ * 베이스 URL 하나당 Reactor Netty HttpClient(커넥션 풀 포함) 하나를 만들어 모든 사용자·요청이 재사용한다.
+ * 사용자 토큰은 기본 헤더가 아니라 요청 속성({@link #TOKEN_ATTRIBUTE})으로 전달되고,
+ * 필터가 요청마다 Authorization 헤더로 변환하므로 TLS 커넥션을 사용자 간에 공유할 수 있다.
+ * 멱등 요청은 {@link RetryPolicy} 에 따라 베이스 URL 별 예산 안에서 재시도된다.
+ * 모든 요청은 {@link RateLimitPolicy} 의 테넌트·토큰별 적응형 속도 제한을 통과해야 전송된다.
+ * 업스트림(jira-core, jira-agile, confluence)마다 {@link UpstreamGuardPolicy} 의 서킷 브레이커·벌크헤드로 격리된다.
+ * 같은 토큰의 동일한 동시 GET 은 {@link SingleflightFilter} 로 하나의 업스트림 요청으로 병합된다.
+ * ETag/Last-Modified 가 있는 GET 은 {@link ConditionalGetPolicy} 에 따라 재검증되어 304 이면 기억한 본문을 쓴다.
+ * JSON 응답은 {@link ResponseBufferPolicy} 의 엔드포인트별 한도까지 메모리에서, 넘으면 임시 파일에서 파싱된다.
+ */
+@Component
+public class AtlassianHttpClients implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AtlassianHttpClients.class);
+
+    /** 요청 속성 키: 이 요청에 사용할 Atlassian 토큰 (Bearer). */
+    public static final String TOKEN_ATTRIBUTE = AtlassianHttpClients.class.getName() + ".token";
+
+    /** 요청 속성 키: 메서드가 멱등이 아니어도 부작용 없는 조회임 (예: POST /search). 재시도 대상이 된다. */
+    public static final String IDEMPOTENT_ATTRIBUTE = AtlassianHttpClients.class.getName() + ".idempotent";
+
+    /** 요청 속성 키: 응답 본문을 스트리밍으로 디코딩함 ({@link JsonStreamDecoder}). 본문을 메모리에 모으는 필터는 건너뛴다. */
+    public static final String STREAMING_ATTRIBUTE = AtlassianHttpClients.class.getName() + ".streaming";
+
+    /** 격리 단위 구분용 제품 종류. */
+    public enum Product { JIRA, CONFLUENCE }
+
+    /** Server/DC 에서는 Jira 와 Confluence 가 같은 베이스 URL 일 수 있으므로 제품까지 구분한다. */
+    private record ClientKey(Product product, String baseUrl) {
+    }
+
+    private final WebClient.Builder webClientBuilder;
+    private final RetryPolicy retryPolicy;
+    private final RateLimitPolicy rateLimitPolicy;
+    private final UpstreamGuardPolicy upstreamGuardPolicy;
+    private final ResponseBufferPolicy responseBufferPolicy;
+    private final ConditionalGetPolicy conditionalGetPolicy;
+    private final Map<ClientKey, WebClient> clients = new ConcurrentHashMap<>();
+    // 커넥션 풀과 속도 제한은 호스트 단위 자원이므로 같은 베이스 URL 의 제품끼리 공유한다
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+    private final Map<String, RateLimitFilter> rateLimitFilters = new ConcurrentHashMap<>();
+
+    private final int maxConnections;
+    private final int pendingAcquireMaxCount;
+    private final Duration pendingAcquireTimeout;
+    private final Duration maxIdleTime;
+    private final Duration maxLifeTime;
+    private final Duration evictInterval;
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+    private final boolean singleflight;
+
+    public AtlassianHttpClients(
+            WebClient.Builder webClientBuilder,
+            RetryPolicy retryPolicy,
+            RateLimitPolicy rateLimitPolicy,
+            UpstreamGuardPolicy upstreamGuardPolicy,
+            ResponseBufferPolicy responseBufferPolicy,
+            ConditionalGetPolicy conditionalGetPolicy,
+            @Value("${atlassian.http.maxConnections:200}") int maxConnections,
+            @Value("${atlassian.http.pendingAcquireMaxCount:1000}") int pendingAcquireMaxCount,
+            @Value("${atlassian.http.pendingAcquireTimeout:10s}") Duration pendingAcquireTimeout,
+            @Value("${atlassian.http.maxIdleTime:30s}") Duration maxIdleTime,
+            @Value("${atlassian.http.maxLifeTime:5m}") Duration maxLifeTime,
+            @Value("${atlassian.http.evictInterval:30s}") Duration evictInterval,
+            @Value("${atlassian.http.connectTimeout:5s}") Duration connectTimeout,
+            @Value("${atlassian.http.responseTimeout:30s}") Duration responseTimeout,
+            @Value("${atlassian.http.singleflight:true}") boolean singleflight) {
+        this.webClientBuilder = webClientBuilder;
+        this.retryPolicy = retryPolicy;
+        this.rateLimitPolicy = rateLimitPolicy;
+        this.upstreamGuardPolicy = upstreamGuardPolicy;
+        this.responseBufferPolicy = responseBufferPolicy;
+        this.conditionalGetPolicy = conditionalGetPolicy;
+        this.maxConnections = maxConnections;
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+        this.maxIdleTime = maxIdleTime;
+        this.maxLifeTime = maxLifeTime;
+        this.evictInterval = evictInterval;
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+        this.singleflight = singleflight;
+    }
+
+    /**
+     * 제품·베이스 URL 의 공유 WebClient. 최초 호출 시 생성되며 이후 같은 인스턴스를 반환한다.
+     * 같은 베이스 URL 의 두 제품은 커넥션 풀과 속도 제한을 공유하고 격리 단위(브레이커·벌크헤드)는 따로 쓴다.
+     * 요청마다 {@code .attribute(TOKEN_ATTRIBUTE, token)} 으로 토큰을 지정해야 한다.
+     */
+    public WebClient forBaseUrl(Product product, String baseUrl) {
+        return clients.computeIfAbsent(new ClientKey(product, baseUrl), key -> create(product, baseUrl));
+    }
+
+    /**
+     * 요청 속성의 토큰을 Authorization: Bearer 헤더로 설정하는 필터.
+     * 토큰 속성이 없는 요청은 그대로 전달된다.
+     */
+    public static ExchangeFilterFunction bearerToken() {
+        return (request, next) -> {
+            Object token = request.attribute(TOKEN_ATTRIBUTE).orElse(null);
+            if (token == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(token.toString()))
+                .build());
+        };
+    }
+
+    private WebClient create(Product product, String baseUrl) {
+        String host = URI.create(baseUrl).getHost();
+        ConnectionProvider provider = providers.computeIfAbsent(baseUrl, url -> connectionProvider(host));
+
+        HttpClient httpClient = HttpClient.create(provider)
+            .keepAlive(true)
+            .compress(true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .responseTimeout(responseTimeout)
+            .doOnConnected(connection -> connection.addHandlerLast(
+                new ReadTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        log.info("Creating shared Atlassian HTTP client for {} {} (maxConnections={}, retry={}, rateLimit={}, isolation={}, singleflight={}, conditional={})",
+            product, baseUrl, maxConnections, retryPolicy.isEnabled(), rateLimitPolicy.isEnabled(),
+            upstreamGuardPolicy.isEnabled(), singleflight, conditionalGetPolicy.isEnabled());
+        WebClient.Builder builder = webClientBuilder.clone()
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            // JSON 본문은 ResponseBufferFilter 가 읽으므로 코덱 한도는 그 밖의 소비(문자열·오류 본문)에만 적용
+            .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(
+                (int) Math.min(Integer.MAX_VALUE, responseBufferPolicy.getMaxInMemorySize())))
+            // 먼저 등록한 필터가 바깥쪽: 본문 버퍼 → 병합 → 조건부 GET → 격리 → 재시도 → 속도 제한 → 인증
+            // (병합된 요청은 재검증·허용량·속도 제한을 한 번만 쓰고, 재시도도 속도 제한을 거친다)
+            .filter(responseBufferPolicy.filter());
+        if (singleflight) {
+            builder.filter(new SingleflightFilter(host, responseBufferPolicy::maxInMemoryFor));
+        }
+        if (conditionalGetPolicy.isEnabled()) {
+            builder.filter(conditionalGetPolicy.filterFor(host));
+        }
+        if (upstreamGuardPolicy.isEnabled()) {
+            builder.filter(upstreamGuardPolicy.filterFor(product));
+        }
+        if (retryPolicy.isEnabled()) {
+            builder.filter(retryPolicy.filterFor(host));
+        }
+        if (rateLimitPolicy.isEnabled()) {
+            builder.filter(rateLimitFilters.computeIfAbsent(baseUrl, url -> rateLimitPolicy.filterFor(host)));
+        }
+        return builder
+            .filter(bearerToken())
+            .build();
+    }
+
+    private ConnectionProvider connectionProvider(String host) {
+        return ConnectionProvider.builder("atlassian-" + host)
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .maxLifeTime(maxLifeTime)
+            .evictInBackground(evictInterval)
+            .lifo()
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        providers.values().forEach(ConnectionProvider::dispose);
+        providers.clear();
+        rateLimitFilters.clear();
+        clients.clear();
+    }
+}
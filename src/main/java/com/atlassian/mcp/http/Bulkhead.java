@@ -0,0 +1,126 @@
+package com.atlassian.mcp.http;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 비동기 동시 실행 제한 (세마포어 + 유한 대기열).
+ *
+ * 동시에 maxConcurrent 건까지 실행하고, 그 이상은 maxQueued 건까지 순서대로 대기시킨다.
+ * 대기열도 가득 차면 즉시 거절한다. 스레드를 블로킹하지 않는다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Deque<MonoSink<Bulkhead>> waiters = new ArrayDeque<>();
+    private int inUse;
+    private long rejected;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueued = Math.max(0, maxQueued);
+    }
+
+    /**
+     * 허용량을 얻어 call 을 실행하고, 완료·오류·취소 시 반납한다.
+     *
+     * @param rejected 허용량도 대기열 자리도 없을 때 반환할 오류
+     */
+    public <T> Mono<T> execute(Function<Bulkhead, Mono<T>> call, Function<Bulkhead, Throwable> rejected) {
+        return Mono.usingWhen(reserve(rejected), call, permit -> release(), (permit, error) -> release(),
+            permit -> release());
+    }
+
+    /**
+     * 허용량을 얻어 반납 함수를 돌려준다. 반납 함수는 여러 번 불러도 한 번만 반납한다.
+     * 호출의 Mono 가 끝난 뒤에도 허용량을 잡아야 할 때(응답 본문 전송까지) 쓴다.
+     *
+     * @param rejected 허용량도 대기열 자리도 없을 때 반환할 오류
+     */
+    public Mono<Runnable> acquire(Function<Bulkhead, Throwable> rejected) {
+        return reserve(rejected).map(permit -> {
+            AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    release().subscribe();
+                }
+            };
+        });
+    }
+
+    public synchronized int getInUse() {
+        return inUse;
+    }
+
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private Mono<Bulkhead> reserve(Function<Bulkhead, Throwable> rejectedError) {
+        return Mono.create(sink -> {
+            Throwable error = null;
+            synchronized (this) {
+                if (inUse < maxConcurrent) {
+                    inUse++;
+                } else if (waiters.size() < maxQueued) {
+                    waiters.add(sink);
+                    sink.onCancel(() -> cancelWaiter(sink));
+                    return;
+                } else {
+                    rejected++;
+                    error = rejectedError.apply(this);
+                }
+            }
+            if (error != null) {
+                sink.error(error);
+            } else {
+                sink.success(this);
+            }
+        });
+    }
+
+    private void cancelWaiter(MonoSink<Bulkhead> sink) {
+        synchronized (this) {
+            if (waiters.remove(sink)) {
+                return;
+            }
+        }
+        // 허용량을 넘겨받은 직후 취소됨: 다음 대기자에게 넘긴다
+        release().subscribe();
+    }
+
+    private Mono<Void> release() {
+        return Mono.fromRunnable(() -> {
+            MonoSink<Bulkhead> next;
+            synchronized (this) {
+                next = waiters.poll();
+                if (next == null) {
+                    inUse--;
+                    return;
+                }
+            }
+            // 허용량을 그대로 다음 대기자에게 이전 (inUse 유지)
+            next.success(this);
+        });
+    }
+}
@@ -0,0 +1,153 @@
+package com.atlassian.mcp.http;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 서킷 브레이커.
+ *
+ * - CLOSED: 최근 windowSize 건 중 minimumCalls 이상이 기록되었고 실패율 또는 지연 호출 비율이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출을 즉시 거절
+ * - HALF_OPEN: halfOpenCalls 건만 시험 호출로 허용. 모두 성공하면 CLOSED, 하나라도 실패·지연이면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int index;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          double slowCallRateThreshold, Duration openDuration, int halfOpenCalls,
+                          LongSupplier nanoClock) {
+        this.name = name;
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.nanoClock = nanoClock;
+        this.failures = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부. true 를 받은 호출은 반드시 {@link #onResult} 또는 {@link #onIgnored} 로 끝내야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openUntil < 0) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * 호출 결과 기록.
+     *
+     * @param failure 오류 (5xx, 연결 오류, 타임아웃)
+     * @param slow 지연 임계값 초과
+     */
+    public synchronized void onResult(boolean failure, boolean slow) {
+        if (state == State.HALF_OPEN) {
+            if (failure || slow) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        if (recorded == failures.length) {
+            failureCount -= failures[index] ? 1 : 0;
+            slowCount -= slowCalls[index] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[index] = failure;
+        slowCalls[index] = slow;
+        failureCount += failure ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        index = (index + 1) % failures.length;
+
+        if (recorded >= minimumCalls
+                && ((double) failureCount / recorded >= failureRateThreshold
+                    || (double) slowCount / recorded >= slowCallRateThreshold)) {
+            open();
+        }
+    }
+
+    /**
+     * 판정에 쓰지 않는 결과 (취소, 속도 제한 거절, 벌크헤드 거절). HALF_OPEN 시험 허용량을 돌려준다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > halfOpenSuccesses) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝나기까지 남은 시간 (OPEN 이 아니면 0).
+     */
+    public synchronized Duration remainingOpen() {
+        long remaining = state == State.OPEN ? openUntil - nanoClock.getAsLong() : 0;
+        return Duration.ofNanos(Math.max(0, remaining));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = nanoClock.getAsLong() + openNanos;
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        index = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+        java.util.Arrays.fill(failures, false);
+        java.util.Arrays.fill(slowCalls, false);
+    }
+}
@@ -0,0 +1,169 @@
+package com.atlassian.mcp.http;
+
+import com.atlassian.mcp.auth.TokenFingerprint;
+import com.atlassian.mcp.cache.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ETag/Last-Modified 재검증 (조건부 GET).
+ *
+ * 검증자(ETag, Last-Modified)가 붙은 200 응답의 본문을 URI·토큰 지문별로 기억해 두고, 같은 요청에
+ * If-None-Match/If-Modified-Since 를 붙여 보낸다. 304 Not Modified 이면 기억한 본문으로 200 응답을 만들어
+ * 본문 전송 없이 헤더 왕복만으로 끝난다. 본문은 소비자에게 그대로 흘려보내면서 복사하므로 첫 응답이 늦어지지 않는다.
+ * 토큰별로 분리하므로 다른 사용자의 응답이 섞이지 않는다.
+ */
+public class ConditionalGetFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(ConditionalGetFilter.class);
+
+    private record Key(URI url, String tokenScope) {
+    }
+
+    private record Entry(String etag, String lastModified, String contentType, byte[] body) {
+    }
+
+    private final String tenant;
+    private final long maxEntrySize;
+    private final TtlCache<Key, Entry> validators;
+    private final AtomicLong revalidated = new AtomicLong();
+
+    ConditionalGetFilter(String tenant, int maxEntries, long maxEntrySize, long maxBytes, Duration idleTtl) {
+        this.tenant = tenant;
+        this.maxEntrySize = maxEntrySize;
+        this.validators = new TtlCache<>("conditional-get-" + tenant, maxEntries, maxBytes,
+            entry -> entry.body().length, idleTtl);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.method() != HttpMethod.GET
+                || Boolean.TRUE.equals(request.attribute(AtlassianHttpClients.STREAMING_ATTRIBUTE).orElse(null))
+                || request.headers().getIfNoneMatch().size() > 0 || request.headers().getIfModifiedSince() >= 0) {
+            return next.exchange(request);
+        }
+        Object token = request.attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE).orElse(null);
+        Key key = new Key(request.url(), token != null ? TokenFingerprint.of(tenant, token.toString()) : "");
+        return Mono.defer(() -> {
+            Entry entry = validators.get(key);
+            ClientRequest conditional = entry == null ? request : ClientRequest.from(request)
+                .headers(headers -> {
+                    if (entry.etag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, entry.etag());
+                    }
+                    if (entry.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+                    }
+                })
+                .build();
+            return next.exchange(conditional).flatMap(response -> {
+                if (entry != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                    revalidated.incrementAndGet();
+                    log.debug("GET {} not modified; serving {} remembered bytes", request.url().getPath(),
+                        entry.body().length);
+                    return response.releaseBody().then(Mono.fromCallable(() -> fromEntry(response, entry)));
+                }
+                return Mono.just(remember(key, response));
+            });
+        });
+    }
+
+    /**
+     * 304 로 응답을 대신한 요청 수.
+     */
+    public long getRevalidated() {
+        return revalidated.get();
+    }
+
+    public TtlCache.Stats getStats() {
+        return validators.stats();
+    }
+
+    private ClientResponse fromEntry(ClientResponse notModified, Entry entry) {
+        return notModified.mutate()
+            .statusCode(HttpStatus.OK)
+            .headers(headers -> {
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                if (entry.contentType() != null) {
+                    headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType());
+                }
+                if (entry.etag() != null && headers.getETag() == null) {
+                    headers.setETag(entry.etag());
+                }
+            })
+            .body(Flux.defer(() -> Flux.just((DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(entry.body()))))
+            .build();
+    }
+
+    private ClientResponse remember(Key key, ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (response.statusCode().value() != HttpStatus.OK.value() || (etag == null && lastModified == null)
+                || headers.getContentLength() > maxEntrySize) {
+            validators.invalidate(key);
+            return response;
+        }
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        AtomicBoolean captured = new AtomicBoolean();
+        return response.mutate()
+            .body(body -> Flux.defer(() -> {
+                // 본문을 다시 구독하는 건 소비 후 해제(mutate().body 등)뿐이므로 첫 구독만 기억한다
+                if (!captured.compareAndSet(false, true)) {
+                    return body;
+                }
+                Capture capture = new Capture();
+                return body
+                    .doOnNext(capture::copy)
+                    .doOnComplete(() -> {
+                        if (capture.out != null) {
+                            validators.put(key, new Entry(etag, lastModified, contentType, capture.out.toByteArray()));
+                        } else {
+                            validators.invalidate(key);
+                        }
+                    });
+            }))
+            .build();
+    }
+
+    /** 소비자에게 흘려보내는 본문의 복사본. maxEntrySize 를 넘으면 버린다. */
+    private final class Capture {
+        private ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void copy(DataBuffer buffer) {
+            if (out == null) {
+                return;
+            }
+            if (out.size() + buffer.readableByteCount() > maxEntrySize) {
+                out = null;
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer bytes = iterator.next();
+                    byte[] chunk = new byte[bytes.remaining()];
+                    bytes.get(chunk);
+                    out.write(chunk, 0, chunk.length);
+                }
+            }
+        }
+    }
+}
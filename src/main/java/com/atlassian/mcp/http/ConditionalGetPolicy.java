@@ -0,0 +1,45 @@
+package com.atlassian.mcp.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 조건부 GET 설정 (atlassian.http.conditional.*).
+ *
+ * ETag/Last-Modified 를 돌려준 GET 응답을 URI·토큰 범위별로 maxEntries 건, 본문 합계 maxBytes 까지 기억하고,
+ * 다음 요청에 If-None-Match/If-Modified-Since 를 붙여 304 이면 기억한 본문으로 응답한다.
+ * maxEntrySize 를 넘는 본문은 기억하지 않는다. 한도는 베이스 URL 별로 적용된다.
+ */
+@Component
+public class ConditionalGetPolicy {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxEntrySize;
+    private final long maxBytes;
+    private final Duration idleTtl;
+
+    public ConditionalGetPolicy(
+            @Value("${atlassian.http.conditional.enabled:true}") boolean enabled,
+            @Value("${atlassian.http.conditional.maxEntries:1000}") int maxEntries,
+            @Value("${atlassian.http.conditional.maxEntrySize:1MB}") DataSize maxEntrySize,
+            @Value("${atlassian.http.conditional.maxBytes:64MB}") DataSize maxBytes,
+            @Value("${atlassian.http.conditional.idleTtl:30m}") Duration idleTtl) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxEntrySize = maxEntrySize.toBytes();
+        this.maxBytes = maxBytes.toBytes();
+        this.idleTtl = idleTtl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ConditionalGetFilter filterFor(String tenant) {
+        return new ConditionalGetFilter(tenant, maxEntries, maxEntrySize, maxBytes, idleTtl);
+    }
+}
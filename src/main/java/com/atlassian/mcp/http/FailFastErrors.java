@@ -0,0 +1,33 @@
+package com.atlassian.mcp.http;
+
+/**
+ * 클라이언트 측 보호 장치가 Atlassian 을 호출하지 않고 거절한 오류 판별.
+ *
+ * 도구는 보통 오류를 {"success": false, "error": ...} 결과로 바꾸지만, 이 오류는 그대로 흘려보내
+ * McpRequestHandler 가 전용 JSON-RPC 오류 코드로 응답하게 한다. 에이전트는 코드만 보고 재시도 여부를 정할 수 있다.
+ */
+public final class FailFastErrors {
+
+    private FailFastErrors() {
+    }
+
+    /**
+     * e 또는 그 원인 중 빠른 실패 오류({@link RateLimitExceededException}, {@link UpstreamUnavailableException}).
+     * 없으면 null.
+     */
+    public static RuntimeException find(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof RateLimitExceededException || cause instanceof UpstreamUnavailableException) {
+                return (RuntimeException) cause;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 도구의 onErrorResume 조건: 빠른 실패가 아닌 오류만 success:false 결과로 바꾼다.
+     */
+    public static boolean isToolFailure(Throwable e) {
+        return find(e) == null;
+    }
+}
@@ -0,0 +1,257 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 응답 본문(DataBuffer 스트림)을 Jackson 비동기 파서로 토큰 단위 디코딩.
+ *
+ * 최상위 객체의 배열 필드 하나(예: 검색 응답의 "issues")를 원소 단위로 내보내고,
+ * 나머지 최상위 스칼라(total, startAt 등)는 그대로 전달한다. 전체 JsonNode 트리를 만들지 않으며
+ * keepPaths 에 없는 경로는 토큰을 읽는 즉시 버리므로 메모리 사용량은 원소 하나(정리 후) 크기로 제한된다.
+ * 상태를 가지므로 구독마다 새로 만든다 ({@link #decode}).
+ */
+public class JsonStreamDecoder {
+
+    /**
+     * 디코딩 결과 하나.
+     *
+     * @param field 최상위 필드 이름
+     * @param value 스칼라 값 또는 배열 원소
+     * @param element 배열 필드의 원소이면 true
+     */
+    public record Part(String field, JsonNode value, boolean element) {
+    }
+
+    /** 원소 내부에서 만들고 있는 컨테이너와 그 경로 ("fields.status"). */
+    private record Frame(JsonNode node, String path) {
+    }
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final String arrayField;
+    private final Set<String> keepPaths;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private int depth;
+    private int skipDepth;
+    private String topField;
+    private String fieldName;
+    private boolean inArray;
+
+    /**
+     * @param arrayField 원소 단위로 내보낼 최상위 배열 필드
+     * @param keepPaths 원소에서 남길 점(.) 구분 경로, 조상·자손 경로도 함께 남는다. null 이면 전부 남김
+     */
+    public JsonStreamDecoder(JsonFactory factory, String arrayField, Set<String> keepPaths) {
+        try {
+            this.parser = factory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.arrayField = arrayField;
+        this.keepPaths = keepPaths;
+    }
+
+    /**
+     * 본문 스트림을 디코딩한다. 구독마다 새 디코더를 만들고, 읽은 버퍼는 즉시 반납한다.
+     */
+    public static Flux<Part> decode(Flux<DataBuffer> body, JsonFactory factory, String arrayField,
+                                    Set<String> keepPaths) {
+        return Flux.defer(() -> {
+            JsonStreamDecoder decoder = new JsonStreamDecoder(factory, arrayField, keepPaths);
+            return body
+                .concatMapIterable(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return decoder.feed(bytes, 0, bytes.length);
+                })
+                .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doFinally(signal -> decoder.close());
+        });
+    }
+
+    /**
+     * 바이트 조각을 넣고 그 안에서 완성된 결과를 반환한다. 토큰이 조각 경계에서 잘려도 된다.
+     */
+    public List<Part> feed(byte[] bytes, int offset, int length) {
+        List<Part> parts = new ArrayList<>();
+        try {
+            feeder.feedInput(bytes, offset, offset + length);
+            drain(parts);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return parts;
+    }
+
+    /**
+     * 입력 끝을 알리고 남은 결과를 반환한다. JSON 이 닫히지 않았으면 오류.
+     */
+    public List<Part> finish() {
+        List<Part> parts = new ArrayList<>();
+        try {
+            feeder.endOfInput();
+            drain(parts);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (depth != 0) {
+            throw new UncheckedIOException(new IOException("Truncated JSON response (depth " + depth + ")"));
+        }
+        return parts;
+    }
+
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // 파서는 외부 자원을 갖지 않는다
+        }
+    }
+
+    private void drain(List<Part> parts) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            onToken(token, parts);
+        }
+    }
+
+    private void onToken(JsonToken token, List<Part> parts) throws IOException {
+        boolean start = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+        boolean end = token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY;
+        if (start) {
+            depth++;
+        } else if (end) {
+            depth--;
+        }
+        if (skipDepth > 0) {
+            if (start) {
+                skipDepth++;
+            } else if (end) {
+                skipDepth--;
+            }
+            return;
+        }
+        if (!frames.isEmpty() || (inArray && start)) {
+            onElementToken(token, parts);
+            return;
+        }
+        // 최상위 객체 (depth 1) 또는 배열 필드 (depth 2)
+        switch (token) {
+            case FIELD_NAME -> topField = parser.currentName();
+            case START_ARRAY -> {
+                if (depth == 2 && arrayField.equals(topField)) {
+                    inArray = true;
+                } else if (depth > 1) {
+                    skipDepth = 1;
+                }
+            }
+            case START_OBJECT -> {
+                if (depth > 1) {
+                    skipDepth = 1;
+                }
+            }
+            case END_ARRAY -> inArray = false;
+            case END_OBJECT -> topField = null;
+            default -> {
+                JsonNode value = scalar(token);
+                if (depth == 2 && inArray) {
+                    parts.add(new Part(arrayField, value, true));
+                } else if (depth == 1 && topField != null) {
+                    parts.add(new Part(topField, value, false));
+                }
+            }
+        }
+    }
+
+    private void onElementToken(JsonToken token, List<Part> parts) throws IOException {
+        if (token == JsonToken.FIELD_NAME) {
+            fieldName = parser.currentName();
+            return;
+        }
+        if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+            Frame done = frames.pop();
+            if (frames.isEmpty()) {
+                parts.add(new Part(arrayField, done.node(), true));
+            }
+            return;
+        }
+        Frame parent = frames.peek();
+        // 배열 원소는 인덱스 없이 배열과 같은 경로로 본다
+        String path = parent == null ? "" : parent.node().isObject() ? child(parent.path(), fieldName) : parent.path();
+        if (parent != null && !kept(path)) {
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                skipDepth = 1;
+            }
+            return;
+        }
+        JsonNode value = switch (token) {
+            case START_OBJECT -> NODES.objectNode();
+            case START_ARRAY -> NODES.arrayNode();
+            default -> scalar(token);
+        };
+        if (parent != null) {
+            if (parent.node() instanceof ObjectNode object) {
+                object.set(fieldName, value);
+            } else {
+                ((ArrayNode) parent.node()).add(value);
+            }
+        }
+        if (value.isContainerNode()) {
+            frames.push(new Frame(value, path));
+        }
+    }
+
+    private boolean kept(String path) {
+        if (keepPaths == null) {
+            return true;
+        }
+        for (String keep : keepPaths) {
+            if (keep.equals(path) || keep.startsWith(path + ".") || path.startsWith(keep + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String child(String parent, String name) {
+        return parent.isEmpty() ? name : parent + "." + name;
+    }
+
+    private JsonNode scalar(JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> NODES.textNode(parser.getText());
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> NODES.numberNode(parser.getIntValue());
+                case LONG -> NODES.numberNode(parser.getLongValue());
+                default -> NODES.numberNode(parser.getBigIntegerValue());
+            };
+            case VALUE_NUMBER_FLOAT -> NODES.numberNode(parser.getDoubleValue());
+            case VALUE_TRUE -> NODES.booleanNode(true);
+            case VALUE_FALSE -> NODES.booleanNode(false);
+            default -> NODES.nullNode();
+        };
+    }
+}
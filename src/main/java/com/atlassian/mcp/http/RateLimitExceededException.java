@@ -0,0 +1,23 @@
+package com.atlassian.mcp.http;
+
+import java.time.Duration;
+
+/**
+ * 클라이언트 측 속도 제한 대기열이 가득 차 Atlassian 으로 요청을 보내지 않고 즉시 실패함.
+ * 도구가 결과로 바꾸지 않고 JSON-RPC 오류 -32029 의 message 로 그대로 전달되므로 에이전트가 읽을 수 있게 작성한다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String limiter, Duration retryAfter) {
+        super("Rate limit: too many queued requests for " + limiter
+            + " (client-side limiter protecting the Atlassian rate limit); retry in "
+            + Math.max(1, (retryAfter.toMillis() + 999) / 1000) + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
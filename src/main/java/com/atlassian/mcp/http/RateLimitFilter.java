@@ -0,0 +1,177 @@
+package com.atlassian.mcp.http;
+
+import com.atlassian.mcp.auth.TokenFingerprint;
+import com.atlassian.mcp.cache.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.LongSupplier;
+
+/**
+ * 테넌트(베이스 URL) 하나의 클라이언트 측 속도 제한 필터.
+ *
+ * 요청마다 토큰 한도와 테넌트 한도에서 전송 시각을 예약하고 더 늦은 쪽까지 기다린 뒤 전송한다.
+ * 한쪽에서 거절되거나 기다리는 동안 취소되면 보내지 않은 예약은 돌려준다.
+ * 응답 헤더로 한도를 조정한다:
+ * - 429: 두 한도 모두 감소 + Retry-After / X-RateLimit-Reset 까지 전송 중단
+ *   (RateLimit-Reason 이 이슈 단위 쓰기 제한이면 토큰 한도만)
+ * - X-RateLimit-NearLimit: true 또는 X-RateLimit-Remaining 이 Limit 의 일정 비율 미만: 완만한 감소
+ * - 그 외 5xx 가 아닌 응답: 합산 증가
+ */
+public class RateLimitFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    static final String RATE_LIMIT_REASON = "RateLimit-Reason";
+    static final String X_RATE_LIMIT_LIMIT = "X-RateLimit-Limit";
+    static final String X_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    static final String X_RATE_LIMIT_RESET = "X-RateLimit-Reset";
+    static final String X_RATE_LIMIT_NEAR_LIMIT = "X-RateLimit-NearLimit";
+
+    private final String tenant;
+    private final RateLimitPolicy policy;
+    private final AdaptiveRateLimiter tenantLimiter;
+    private final TtlCache<String, AdaptiveRateLimiter> tokenLimiters;
+    private final LongSupplier nanoClock;
+    private final Clock clock = Clock.systemUTC();
+
+    RateLimitFilter(String tenant, RateLimitPolicy policy, AdaptiveRateLimiter tenantLimiter, LongSupplier nanoClock) {
+        this.tenant = tenant;
+        this.policy = policy;
+        this.tenantLimiter = tenantLimiter;
+        this.nanoClock = nanoClock;
+        this.tokenLimiters = new TtlCache<>("rate-limit-tokens@" + tenant,
+            policy.getMaxTrackedTokens(), policy.getTokenIdleTtl(), nanoClock);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            AdaptiveRateLimiter tokenLimiter = tokenLimiter(request);
+            Duration maxWait = policy.getMaxWait();
+
+            Duration tokenWait = tokenLimiter != null ? tokenLimiter.reserve(maxWait) : Duration.ZERO;
+            if (tokenWait == null) {
+                return Mono.error(rejected("this token on " + tenant, tokenLimiter));
+            }
+            Duration tenantWait = tenantLimiter.reserve(maxWait);
+            if (tenantWait == null) {
+                if (tokenLimiter != null) {
+                    tokenLimiter.release();
+                }
+                return Mono.error(rejected(tenant, tenantLimiter));
+            }
+
+            Mono<ClientResponse> exchange = next.exchange(request)
+                .doOnNext(response -> adapt(response, tokenLimiter));
+            Duration wait = tokenWait.compareTo(tenantWait) > 0 ? tokenWait : tenantWait;
+            if (wait.isZero()) {
+                return exchange;
+            }
+            log.debug("Rate limiter delaying {} {} by {} ms", request.method(), request.url().getPath(), wait.toMillis());
+            return Mono.delay(wait)
+                .doOnCancel(() -> {
+                    if (tokenLimiter != null) {
+                        tokenLimiter.release();
+                    }
+                    tenantLimiter.release();
+                })
+                .then(exchange);
+        });
+    }
+
+    public AdaptiveRateLimiter getTenantLimiter() {
+        return tenantLimiter;
+    }
+
+    public TtlCache.Stats getTokenLimiterStats() {
+        return tokenLimiters.stats();
+    }
+
+    private AdaptiveRateLimiter tokenLimiter(ClientRequest request) {
+        Object token = request.attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE).orElse(null);
+        if (token == null) {
+            return null;
+        }
+        // 토큰 평문 대신 지문으로 구분 (로그에도 앞 8자리만)
+        return tokenLimiters.get(TokenFingerprint.of(tenant, token.toString()),
+            fingerprint -> policy.tokenLimiter("token " + fingerprint.substring(0, 8) + " on " + tenant, nanoClock));
+    }
+
+    private RateLimitExceededException rejected(String limiter, AdaptiveRateLimiter rateLimiter) {
+        Duration retryAfter = rateLimiter.timeUntilAvailable().minus(policy.getMaxWait());
+        log.warn("Rate limit queue full for {} (rate {}/s); failing fast", limiter,
+            String.format("%.1f", rateLimiter.getRate()));
+        return new RateLimitExceededException(limiter, retryAfter.isNegative() ? Duration.ZERO : retryAfter);
+    }
+
+    private void adapt(ClientResponse response, AdaptiveRateLimiter tokenLimiter) {
+        int status = response.statusCode().value();
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        if (status == 429) {
+            Duration pause = pause(headers);
+            String reason = headers.getFirst(RATE_LIMIT_REASON);
+            if (tokenLimiter != null) {
+                tokenLimiter.onThrottled(pause);
+            }
+            if (reason == null || !reason.contains("per-issue")) {
+                tenantLimiter.onThrottled(pause);
+            }
+            log.warn("Atlassian rate limited {} (reason={}, pause={} ms); tenant rate now {}/s", tenant,
+                reason, pause != null ? pause.toMillis() : 0, String.format("%.1f", tenantLimiter.getRate()));
+        } else if (isNearLimit(headers)) {
+            if (tokenLimiter != null) {
+                tokenLimiter.onNearLimit();
+            }
+            tenantLimiter.onNearLimit();
+        } else if (status < 500) {
+            if (tokenLimiter != null) {
+                tokenLimiter.onSuccess();
+            }
+            tenantLimiter.onSuccess();
+        }
+    }
+
+    private boolean isNearLimit(HttpHeaders headers) {
+        if ("true".equalsIgnoreCase(headers.getFirst(X_RATE_LIMIT_NEAR_LIMIT))) {
+            return true;
+        }
+        try {
+            String limit = headers.getFirst(X_RATE_LIMIT_LIMIT);
+            String remaining = headers.getFirst(X_RATE_LIMIT_REMAINING);
+            return limit != null && remaining != null
+                && Double.parseDouble(remaining) < Double.parseDouble(limit) * policy.getNearLimitRemaining();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 429 이후 전송을 멈출 시간: Retry-After, 없으면 X-RateLimit-Reset (ISO-8601 시각). maxPause 로 제한.
+     */
+    private Duration pause(HttpHeaders headers) {
+        Duration pause = RetryPolicy.parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER), clock);
+        String reset = headers.getFirst(X_RATE_LIMIT_RESET);
+        if (pause == null && reset != null) {
+            try {
+                pause = Duration.between(clock.instant(), OffsetDateTime.parse(reset).toInstant());
+            } catch (DateTimeParseException e) {
+                log.debug("Unparseable {}: {}", X_RATE_LIMIT_RESET, reset);
+            }
+        }
+        if (pause == null || pause.isNegative()) {
+            return null;
+        }
+        return pause.compareTo(policy.getMaxPause()) > 0 ? policy.getMaxPause() : pause;
+    }
+}
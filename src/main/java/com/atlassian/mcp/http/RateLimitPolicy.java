@@ -0,0 +1,120 @@
+package com.atlassian.mcp.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트 측 적응형 속도 제한 설정 (atlassian.http.rateLimit.*).
+ *
+ * 테넌트(베이스 URL) 한도와 사용자 토큰별 한도를 각각 {@link AdaptiveRateLimiter} 로 두고,
+ * 요청은 두 한도를 모두 통과해야 전송된다. 대기 시간이 maxWait 를 넘으면 {@link RateLimitExceededException}.
+ */
+@Component
+public class RateLimitPolicy {
+
+    private final boolean enabled;
+    private final double tenantRate;
+    private final double tenantMinRate;
+    private final double tenantMaxRate;
+    private final int tenantBurst;
+    private final double tokenRate;
+    private final double tokenMinRate;
+    private final double tokenMaxRate;
+    private final int tokenBurst;
+    private final Duration maxWait;
+    private final double decreaseFactor;
+    private final double nearLimitFactor;
+    private final double additiveIncrease;
+    private final double nearLimitRemaining;
+    private final Duration cooldown;
+    private final Duration maxPause;
+    private final int maxTrackedTokens;
+    private final Duration tokenIdleTtl;
+
+    public RateLimitPolicy(
+            @Value("${atlassian.http.rateLimit.enabled:true}") boolean enabled,
+            @Value("${atlassian.http.rateLimit.tenant.rate:50}") double tenantRate,
+            @Value("${atlassian.http.rateLimit.tenant.minRate:1}") double tenantMinRate,
+            @Value("${atlassian.http.rateLimit.tenant.maxRate:100}") double tenantMaxRate,
+            @Value("${atlassian.http.rateLimit.tenant.burst:20}") int tenantBurst,
+            @Value("${atlassian.http.rateLimit.token.rate:10}") double tokenRate,
+            @Value("${atlassian.http.rateLimit.token.minRate:0.5}") double tokenMinRate,
+            @Value("${atlassian.http.rateLimit.token.maxRate:20}") double tokenMaxRate,
+            @Value("${atlassian.http.rateLimit.token.burst:10}") int tokenBurst,
+            @Value("${atlassian.http.rateLimit.maxWait:5s}") Duration maxWait,
+            @Value("${atlassian.http.rateLimit.decreaseFactor:0.5}") double decreaseFactor,
+            @Value("${atlassian.http.rateLimit.nearLimitFactor:0.9}") double nearLimitFactor,
+            @Value("${atlassian.http.rateLimit.additiveIncrease:1}") double additiveIncrease,
+            @Value("${atlassian.http.rateLimit.nearLimitRemaining:0.1}") double nearLimitRemaining,
+            @Value("${atlassian.http.rateLimit.cooldown:1s}") Duration cooldown,
+            @Value("${atlassian.http.rateLimit.maxPause:60s}") Duration maxPause,
+            @Value("${atlassian.http.rateLimit.maxTrackedTokens:10000}") int maxTrackedTokens,
+            @Value("${atlassian.http.rateLimit.tokenIdleTtl:10m}") Duration tokenIdleTtl) {
+        this.enabled = enabled;
+        this.tenantRate = tenantRate;
+        this.tenantMinRate = tenantMinRate;
+        this.tenantMaxRate = tenantMaxRate;
+        this.tenantBurst = tenantBurst;
+        this.tokenRate = tokenRate;
+        this.tokenMinRate = tokenMinRate;
+        this.tokenMaxRate = tokenMaxRate;
+        this.tokenBurst = tokenBurst;
+        this.maxWait = maxWait;
+        this.decreaseFactor = decreaseFactor;
+        this.nearLimitFactor = nearLimitFactor;
+        this.additiveIncrease = additiveIncrease;
+        this.nearLimitRemaining = nearLimitRemaining;
+        this.cooldown = cooldown;
+        this.maxPause = maxPause;
+        this.maxTrackedTokens = maxTrackedTokens;
+        this.tokenIdleTtl = tokenIdleTtl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 테넌트 하나의 속도 제한 필터.
+     */
+    public RateLimitFilter filterFor(String tenant) {
+        return filterFor(tenant, System::nanoTime);
+    }
+
+    RateLimitFilter filterFor(String tenant, LongSupplier nanoClock) {
+        return new RateLimitFilter(tenant, this, tenantLimiter(tenant, nanoClock), nanoClock);
+    }
+
+    Duration getMaxWait() {
+        return maxWait;
+    }
+
+    Duration getMaxPause() {
+        return maxPause;
+    }
+
+    double getNearLimitRemaining() {
+        return nearLimitRemaining;
+    }
+
+    int getMaxTrackedTokens() {
+        return maxTrackedTokens;
+    }
+
+    Duration getTokenIdleTtl() {
+        return tokenIdleTtl;
+    }
+
+    AdaptiveRateLimiter tenantLimiter(String tenant, LongSupplier nanoClock) {
+        return new AdaptiveRateLimiter(tenant, tenantRate, tenantMinRate, tenantMaxRate, tenantBurst,
+            decreaseFactor, nearLimitFactor, additiveIncrease, cooldown, nanoClock);
+    }
+
+    AdaptiveRateLimiter tokenLimiter(String name, LongSupplier nanoClock) {
+        return new AdaptiveRateLimiter(name, tokenRate, tokenMinRate, tokenMaxRate, tokenBurst,
+            decreaseFactor, nearLimitFactor, additiveIncrease, cooldown, nanoClock);
+    }
+}
@@ -0,0 +1,90 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.support.ClientResponseWrapper;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JSON 응답 본문을 엔드포인트별 한도까지만 메모리에 모으고, 넘으면 임시 파일에서 파싱한다.
+ *
+ * 기본 코덱은 본문 전체를 하나의 버퍼로 합친 뒤 파싱하므로 한도(기본 256KB)를 넘으면 DataBufferLimitException 으로 실패한다.
+ * 이 필터는 응답의 bodyToMono 를 가로채 {@link SpillingBody} 로 본문을 받고 ObjectMapper 로 직접 파싱한다.
+ * 문자열·버퍼·스트리밍(bodyToFlux) 소비는 그대로 둔다.
+ */
+public class ResponseBufferFilter implements ExchangeFilterFunction {
+
+    private final ResponseBufferPolicy policy;
+    private final ObjectMapper mapper;
+
+    ResponseBufferFilter(ResponseBufferPolicy policy, ObjectMapper mapper) {
+        this.policy = policy;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String path = request.url().getPath();
+        return next.exchange(request).map(response -> new BufferedResponse(response, path));
+    }
+
+    private final class BufferedResponse extends ClientResponseWrapper {
+
+        private final String path;
+
+        BufferedResponse(ClientResponse delegate, String path) {
+            super(delegate);
+            this.path = path;
+        }
+
+        @Override
+        public <T> Mono<T> bodyToMono(Class<? extends T> elementClass) {
+            if (!isJsonObject(elementClass)) {
+                return super.bodyToMono(elementClass);
+            }
+            return read(mapper.constructType(elementClass));
+        }
+
+        @Override
+        public <T> Mono<T> bodyToMono(ParameterizedTypeReference<T> elementTypeRef) {
+            JavaType type = mapper.constructType(elementTypeRef.getType());
+            if (!isJsonObject(type.getRawClass())) {
+                return super.bodyToMono(elementTypeRef);
+            }
+            return read(type);
+        }
+
+        private boolean isJsonObject(Class<?> type) {
+            if (type == Void.class || type == String.class || type == byte[].class
+                    || DataBuffer.class.isAssignableFrom(type) || Resource.class.isAssignableFrom(type)) {
+                return false;
+            }
+            return headers().contentType()
+                .map(contentType -> contentType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                    || contentType.getSubtype().endsWith("+json"))
+                .orElse(false);
+        }
+
+        private <T> Mono<T> read(JavaType type) {
+            return Mono.usingWhen(
+                SpillingBody.collect(body(BodyExtractors.toDataBuffers()), path, policy.maxInMemoryFor(path),
+                    policy.getMaxSize(), policy.getSpillDirectory()),
+                body -> {
+                    Mono<T> parsed = Mono.fromCallable(() -> body.read(mapper.readerFor(type)));
+                    // 파일 파싱은 블로킹 I/O 이므로 이벤트 루프 밖에서
+                    return body.isSpilled() ? parsed.subscribeOn(Schedulers.boundedElastic()) : parsed;
+                },
+                body -> Mono.fromRunnable(body::release));
+        }
+    }
+}
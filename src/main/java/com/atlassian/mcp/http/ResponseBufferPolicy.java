@@ -0,0 +1,80 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 응답 본문 버퍼 한도 설정 (atlassian.http.buffer.*).
+ *
+ * 응답 본문은 엔드포인트(경로 접두사)별 maxInMemorySize 까지 메모리에 모으고, 넘으면 임시 파일로 내려 파일에서 파싱한다.
+ * maxSize 를 넘는 응답은 파일로도 받지 않고 실패시킨다.
+ *
+ * 파일로 내려도 원본 바이트만 힙 밖에 있을 뿐, 파싱 결과는 응답 전체의 JsonNode 트리로 힙에 올라온다. 트리는 원본 JSON 의
+ * 수 배(짧은 값이 많으면 3~5배)를 차지하므로 maxSize(기본 32MB)가 곧 응답 하나가 힙에 만드는 트리 크기의 한도다.
+ * 이슈 검색처럼 큰 목록은 {@link JsonStreamDecoder} 로 원소 단위로 받아 이 한도에 걸리지 않는다.
+ * endpoints 형식: "/rest/api/2/field=4MB,/rest/api/content=8MB" (가장 긴 접두사가 적용됨).
+ */
+@Component
+public class ResponseBufferPolicy {
+
+    private final ObjectMapper mapper;
+    private final long maxInMemorySize;
+    private final long maxSize;
+    private final Path spillDirectory;
+    private final Map<String, Long> endpoints = new LinkedHashMap<>();
+
+    public ResponseBufferPolicy(
+            ObjectMapper mapper,
+            @Value("${atlassian.http.buffer.maxInMemorySize:1MB}") DataSize maxInMemorySize,
+            @Value("${atlassian.http.buffer.maxSize:32MB}") DataSize maxSize,
+            @Value("${atlassian.http.buffer.spillDirectory:}") String spillDirectory,
+            @Value("${atlassian.http.buffer.endpoints:}") String endpoints) {
+        this.mapper = mapper;
+        this.maxInMemorySize = maxInMemorySize.toBytes();
+        this.maxSize = maxSize.toBytes();
+        this.spillDirectory = Path.of(spillDirectory.isBlank() ? System.getProperty("java.io.tmpdir") : spillDirectory);
+        for (String entry : endpoints.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq > 0) {
+                this.endpoints.put(entry.substring(0, eq).trim(), DataSize.parse(entry.substring(eq + 1).trim()).toBytes());
+            }
+        }
+    }
+
+    /**
+     * 경로에 적용할 메모리 버퍼 한도 (바이트). 가장 긴 일치 접두사, 없으면 기본값.
+     */
+    public long maxInMemoryFor(String path) {
+        long limit = maxInMemorySize;
+        int matched = -1;
+        for (Map.Entry<String, Long> endpoint : endpoints.entrySet()) {
+            if (path.startsWith(endpoint.getKey()) && endpoint.getKey().length() > matched) {
+                matched = endpoint.getKey().length();
+                limit = endpoint.getValue();
+            }
+        }
+        return Math.min(limit, maxSize);
+    }
+
+    public long getMaxInMemorySize() {
+        return maxInMemorySize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public ResponseBufferFilter filter() {
+        return new ResponseBufferFilter(this, mapper);
+    }
+}
@@ -0,0 +1,170 @@
+package com.atlassian.mcp.http;
+
+import io.netty.handler.timeout.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 테넌트(베이스 URL) 하나에 대한 재시도 필터. 정책은 {@link RetryPolicy} 참고.
+ * 재시도를 모두 소진하면 마지막 응답(또는 오류)을 그대로 전달하므로
+ * retrieve() 의 기존 오류 처리(WebClientResponseException)는 바뀌지 않는다.
+ */
+public class RetryFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryFilter.class);
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final String tenant;
+    private final RetryPolicy policy;
+    private final Budget budget;
+    private final Clock clock = Clock.systemUTC();
+
+    RetryFilter(String tenant, RetryPolicy policy, Budget budget) {
+        this.tenant = tenant;
+        this.policy = policy;
+        this.budget = budget;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        boolean idempotent = policy.isIdempotent(request.method())
+            || Boolean.TRUE.equals(request.attribute(AtlassianHttpClients.IDEMPOTENT_ATTRIBUTE).orElse(null));
+        if (!idempotent) {
+            return next.exchange(request);
+        }
+        budget.deposit();
+        return exchange(request, next, 0);
+    }
+
+    public Budget getBudget() {
+        return budget;
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int retries) {
+        // 이번 시도의 결과만 판정하도록 응답/오류를 하나의 값으로 감싼다 (중첩 시도의 오류는 그대로 통과)
+        return next.exchange(request)
+            .map(Outcome::of)
+            .onErrorResume(e -> Mono.just(Outcome.failed(e)))
+            .flatMap(outcome -> {
+                Duration delay = retryDelay(request, outcome, retries);
+                if (delay == null) {
+                    return outcome.toMono();
+                }
+                Mono<Void> release = outcome.response() != null ? outcome.response().releaseBody() : Mono.empty();
+                return release
+                    .then(Mono.delay(delay))
+                    .then(Mono.defer(() -> exchange(request, next, retries + 1)));
+            });
+    }
+
+    /**
+     * 재시도 대기 시간, 재시도하지 않으면 null.
+     */
+    private Duration retryDelay(ClientRequest request, Outcome outcome, int retries) {
+        if (retries >= policy.getMaxRetries()) {
+            return null;
+        }
+        Duration retryAfter = null;
+        String reason;
+        if (outcome.response() != null) {
+            HttpStatusCode status = outcome.response().statusCode();
+            if (!RETRYABLE_STATUSES.contains(status.value())) {
+                return null;
+            }
+            retryAfter = RetryPolicy.parseRetryAfter(
+                outcome.response().headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER), clock);
+            if (retryAfter != null && retryAfter.compareTo(policy.getMaxRetryAfter()) > 0) {
+                log.debug("{} {}: Retry-After {}s exceeds limit, not retrying", request.method(), request.url(),
+                    retryAfter.toSeconds());
+                return null;
+            }
+            reason = "HTTP " + status.value();
+        } else if (isRetryable(outcome.error())) {
+            reason = outcome.error().toString();
+        } else {
+            return null;
+        }
+        if (!budget.tryWithdraw()) {
+            log.warn("Retry budget for {} exhausted, not retrying {} {} ({})", tenant, request.method(),
+                request.url().getPath(), reason);
+            return null;
+        }
+        Duration delay = policy.backoff(retries);
+        if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+            delay = retryAfter;
+        }
+        log.info("Retrying {} {} in {} ms (attempt {}/{}, {})", request.method(), request.url().getPath(),
+            delay.toMillis(), retries + 1, policy.getMaxRetries(), reason);
+        return delay;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof IOException || t instanceof TimeoutException
+                    || t instanceof java.util.concurrent.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Outcome(ClientResponse response, Throwable error) {
+        static Outcome of(ClientResponse response) {
+            return new Outcome(response, null);
+        }
+
+        static Outcome failed(Throwable error) {
+            return new Outcome(null, error);
+        }
+
+        Mono<ClientResponse> toMono() {
+            return response != null ? Mono.just(response) : Mono.error(error);
+        }
+    }
+
+    /**
+     * 재시도 예산. 원 요청마다 ratio 만큼 적립하고 재시도마다 1 을 소모한다.
+     * 잔액은 reserve 로 시작하며 reserve 를 넘지 않는다.
+     */
+    public static class Budget {
+
+        private final double ratio;
+        private final double reserve;
+        private double balance;
+
+        Budget(double ratio, int reserve) {
+            this.ratio = ratio;
+            this.reserve = reserve;
+            this.balance = reserve;
+        }
+
+        synchronized void deposit() {
+            balance = Math.min(reserve, balance + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (balance < 1.0) {
+                return false;
+            }
+            balance -= 1.0;
+            return true;
+        }
+
+        public synchronized double getBalance() {
+            return balance;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.atlassian.mcp.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Atlassian 호출 재시도 정책 (atlassian.http.retry.*).
+ *
+ * - 멱등 메서드(기본 GET/HEAD/OPTIONS)와 {@link AtlassianHttpClients#IDEMPOTENT_ATTRIBUTE} 가 붙은 요청만 재시도
+ * - 429/502/503/504 응답과 연결 오류·타임아웃이 대상
+ * - 지수 백오프 + full jitter, Retry-After(초 또는 HTTP-date) 가 있으면 그 이상 대기
+ * - 테넌트(베이스 URL)별 재시도 예산: 원 요청마다 budgetRatio 만큼 적립, 재시도마다 1 소모.
+ *   장애 시 재시도가 원 요청의 budgetRatio 비율을 넘지 않아 부하를 증폭시키지 않는다.
+ */
+@Component
+public class RetryPolicy {
+
+    private final boolean enabled;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxRetryAfter;
+    private final double budgetRatio;
+    private final int budgetReserve;
+    private final Set<HttpMethod> idempotentMethods;
+
+    public RetryPolicy(
+            @Value("${atlassian.http.retry.enabled:true}") boolean enabled,
+            @Value("${atlassian.http.retry.maxRetries:3}") int maxRetries,
+            @Value("${atlassian.http.retry.initialBackoff:200ms}") Duration initialBackoff,
+            @Value("${atlassian.http.retry.maxBackoff:5s}") Duration maxBackoff,
+            @Value("${atlassian.http.retry.maxRetryAfter:30s}") Duration maxRetryAfter,
+            @Value("${atlassian.http.retry.budgetRatio:0.1}") double budgetRatio,
+            @Value("${atlassian.http.retry.budgetReserve:10}") int budgetReserve,
+            @Value("${atlassian.http.retry.methods:GET,HEAD,OPTIONS}") String methods) {
+        this.enabled = enabled;
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxRetryAfter = maxRetryAfter;
+        this.budgetRatio = budgetRatio;
+        this.budgetReserve = budgetReserve;
+        this.idempotentMethods = Arrays.stream(methods.split(","))
+            .map(String::trim)
+            .filter(m -> !m.isEmpty())
+            .map(m -> HttpMethod.valueOf(m.toUpperCase(Locale.ROOT)))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isEnabled() {
+        return enabled && maxRetries > 0;
+    }
+
+    /**
+     * 테넌트 하나의 재시도 필터 (예산은 필터마다 독립).
+     */
+    public RetryFilter filterFor(String tenant) {
+        return new RetryFilter(tenant, this, new RetryFilter.Budget(budgetRatio, budgetReserve));
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    boolean isIdempotent(HttpMethod method) {
+        return idempotentMethods.contains(method);
+    }
+
+    /**
+     * retries 번째 재시도 전 대기 시간: [0, min(maxBackoff, initialBackoff * 2^retries)] 구간의 균등 난수.
+     */
+    Duration backoff(int retries) {
+        long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(retries, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    /**
+     * Retry-After 헤더 값 해석. delta-seconds 와 HTTP-date(RFC 1123) 를 지원한다.
+     *
+     * @return 대기 시간 (과거 시각이면 0), 값이 없거나 해석할 수 없으면 null
+     */
+    public static Duration parseRetryAfter(String value, Clock clock) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식 시도
+        }
+        try {
+            Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration wait = Duration.between(clock.instant(), at);
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.atlassian.mcp.http;
+
+import com.atlassian.mcp.auth.TokenFingerprint;
+import com.atlassian.mcp.cache.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+
+/**
+ * 동일한 동시 GET 요청 병합 (singleflight).
+ *
+ * URI·토큰 지문·요청 헤더가 모두 같은 GET 이 진행 중이면 새로 보내지 않고 진행 중인 응답을 함께 받는다.
+ * 응답 본문은 한 번만 읽을 수 있으므로 메모리에 모은 뒤 구독자마다 같은 바이트로 응답을 다시 만든다.
+ * 완료되면 즉시 잊으므로 캐시가 아니다. 모든 구독자가 취소하면 업스트림 요청도 취소된다.
+ * 스트리밍 디코딩 요청({@link AtlassianHttpClients#STREAMING_ATTRIBUTE})은 본문을 모으지 않도록 병합하지 않는다.
+ * 공유 본문은 경로별 메모리 한도({@link ResponseBufferPolicy#maxInMemoryFor})까지만 모으고, 넘으면 각자 따로 요청하며
+ * 그 경로는 한동안 병합하지 않는다 (큰 응답은 {@link ResponseBufferFilter} 가 파일로 받는다).
+ */
+public class SingleflightFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleflightFilter.class);
+
+    private record Key(URI url, String tokenScope, HttpHeaders headers) {
+    }
+
+    private record Shared(ClientResponse response, byte[] body) {
+        ClientResponse copy() {
+            return response.mutate()
+                .body(Flux.defer(() -> Flux.just((DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(body))))
+                .build();
+        }
+    }
+
+    private final String tenant;
+    private final ToLongFunction<String> maxBodySize;
+    private final Map<Key, Mono<Shared>> inFlight = new ConcurrentHashMap<>();
+    private final TtlCache<String, Boolean> oversized = new TtlCache<>("singleflight-oversized", 1000, Duration.ofMinutes(10));
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * @param maxBodySize 경로별로 공유 버퍼에 모을 최대 본문 크기 (바이트)
+     */
+    public SingleflightFilter(String tenant, ToLongFunction<String> maxBodySize) {
+        this.tenant = tenant;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.method() != HttpMethod.GET
+                || Boolean.TRUE.equals(request.attribute(AtlassianHttpClients.STREAMING_ATTRIBUTE).orElse(null))
+                || oversized.get(request.url().getPath()) != null) {
+            return next.exchange(request);
+        }
+        Object token = request.attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE).orElse(null);
+        Key key = new Key(request.url(), token != null ? TokenFingerprint.of(tenant, token.toString()) : "",
+            HttpHeaders.readOnlyHttpHeaders(request.headers()));
+        return Mono.defer(() -> {
+            Mono<Shared> candidate = exchange(key, request, next);
+            Mono<Shared> existing = inFlight.putIfAbsent(key, candidate);
+            if (existing != null) {
+                coalesced.incrementAndGet();
+                log.debug("Coalesced GET {} with an in-flight request", request.url().getPath());
+            }
+            return (existing != null ? existing : candidate)
+                .map(Shared::copy)
+                // 공유 한도를 넘은 응답은 각자 다시 요청한다
+                .onErrorResume(DataBufferLimitException.class, e -> next.exchange(request));
+        });
+    }
+
+    /**
+     * 병합되어 업스트림으로 보내지 않은 요청 수.
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    private Mono<Shared> exchange(Key key, ClientRequest request, ExchangeFunction next) {
+        AtomicReference<Mono<Shared>> self = new AtomicReference<>();
+        String path = request.url().getPath();
+        int limit = (int) Math.min(Integer.MAX_VALUE, maxBodySize.applyAsLong(path));
+        // 병합되어 버려지는 후보가 하위 필터를 거치지 않도록 구독 시점에 요청
+        Mono<Shared> shared = Mono.defer(() -> next.exchange(request))
+            .flatMap(response -> DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()), limit)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return new Shared(response, bytes);
+                })
+                .defaultIfEmpty(new Shared(response, new byte[0])))
+            .doOnError(DataBufferLimitException.class, e -> {
+                oversized.put(path, Boolean.TRUE);
+                log.debug("Response for {} exceeds {} bytes; not coalescing this path for a while", path, limit);
+            })
+            // 완료·오류·전원 취소 시 목록에서 제거해 이후 요청은 새로 보낸다
+            .doFinally(signal -> inFlight.remove(key, self.get()))
+            .share();
+        self.set(shared);
+        return shared;
+    }
+}
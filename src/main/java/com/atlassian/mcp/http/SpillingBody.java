@@ -0,0 +1,199 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 한도까지는 메모리에, 넘으면 임시 파일에 모은 응답 본문.
+ * 파일 쓰기는 이벤트 루프를 막지 않도록 boundedElastic 에서 한다. 사용 후 {@link #release()} 로 버퍼·파일을 정리한다.
+ */
+final class SpillingBody {
+
+    private static final Logger log = LoggerFactory.getLogger(SpillingBody.class);
+
+    private final DataBuffer memory;
+    private final Path file;
+    private final long size;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private SpillingBody(DataBuffer memory, Path file, long size) {
+        this.memory = memory;
+        this.file = file;
+        this.size = size;
+    }
+
+    /**
+     * 본문을 모은다. 빈 본문이면 빈 Mono.
+     *
+     * @param path 로그·오류 메시지용 요청 경로
+     * @param maxInMemory 이 크기를 넘으면 파일로 내린다
+     * @param maxSize 이 크기를 넘으면 {@link DataBufferLimitException}
+     */
+    static Mono<SpillingBody> collect(Flux<DataBuffer> body, String path, long maxInMemory, long maxSize, Path directory) {
+        return Mono.defer(() -> {
+            Collector collector = new Collector(path, maxInMemory, maxSize, directory);
+            return body
+                .concatMap(collector::add)
+                .then(Mono.fromCallable(collector::finish))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doOnError(e -> collector.discard())
+                .doOnCancel(collector::discard);
+        });
+    }
+
+    boolean isSpilled() {
+        return file != null;
+    }
+
+    long size() {
+        return size;
+    }
+
+    <T> T read(ObjectReader reader) throws IOException {
+        try (InputStream in = file != null ? Files.newInputStream(file) : memory.asInputStream(false)) {
+            return reader.readValue(in);
+        }
+    }
+
+    void release() {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        if (memory != null) {
+            DataBufferUtils.release(memory);
+        }
+        if (file != null) {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete spilled response {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** 구독 하나 동안의 수집 상태. add 는 concatMap 이 순차 호출하지만 취소는 다른 스레드에서 올 수 있다. */
+    private static final class Collector {
+        private final String path;
+        private final long maxInMemory;
+        private final long maxSize;
+        private final Path directory;
+        private final List<DataBuffer> buffers = new ArrayList<>();
+        private long size;
+        private Path file;
+        private FileChannel channel;
+        private boolean discarded;
+
+        Collector(String path, long maxInMemory, long maxSize, Path directory) {
+            this.path = path;
+            this.maxInMemory = maxInMemory;
+            this.maxSize = maxSize;
+            this.directory = directory;
+        }
+
+        synchronized Mono<Void> add(DataBuffer buffer) {
+            size += buffer.readableByteCount();
+            if (size > maxSize) {
+                DataBufferUtils.release(buffer);
+                return Mono.error(new DataBufferLimitException("Atlassian response for " + path + " exceeds "
+                    + maxSize + " bytes (atlassian.http.buffer.maxSize)"));
+            }
+            if (channel == null && size <= maxInMemory) {
+                buffers.add(buffer);
+                return Mono.empty();
+            }
+            return Mono.<Void>fromRunnable(() -> spill(buffer)).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        synchronized SpillingBody finish() throws IOException {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+                log.debug("Spilled {} byte response for {} to {}", size, path, file);
+                return new SpillingBody(null, file, size);
+            }
+            if (buffers.isEmpty()) {
+                return null;
+            }
+            DataBuffer joined = buffers.get(0).factory().join(buffers);
+            buffers.clear();
+            return new SpillingBody(joined, null, size);
+        }
+
+        synchronized void discard() {
+            discarded = true;
+            buffers.forEach(DataBufferUtils::release);
+            buffers.clear();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // 곧 삭제한다
+                }
+                channel = null;
+            }
+            if (file != null) {
+                deleteQuietly(file);
+            }
+        }
+
+        private synchronized void spill(DataBuffer buffer) {
+            if (discarded) {
+                DataBufferUtils.release(buffer);
+                return;
+            }
+            try {
+                if (channel == null) {
+                    file = Files.createTempFile(directory, "atlassian-response-", ".json");
+                    channel = FileChannel.open(file, StandardOpenOption.WRITE);
+                    while (!buffers.isEmpty()) {
+                        write(buffers.remove(0));
+                    }
+                }
+            } catch (IOException e) {
+                DataBufferUtils.release(buffer);
+                throw new UncheckedIOException(e);
+            }
+            try {
+                write(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(DataBuffer buffer) throws IOException {
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer bytes = iterator.next();
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                }
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.atlassian.mcp.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 업스트림(jira-core, jira-agile, confluence)별 서킷 브레이커 + 벌크헤드.
+ *
+ * 한 제품의 장애·지연이 다른 제품 호출의 커넥션·대기 자리를 잠식하지 않도록 업스트림마다 동시 실행 수를 따로 제한하고,
+ * 실패·지연 호출이 임계값을 넘으면 브레이커를 열어 요청을 보내지 않고 즉시 실패시킨다.
+ * 벌크헤드 허용량은 헤더가 도착할 때가 아니라 응답 본문을 다 받거나 해제할 때 반납한다 (큰 Confluence 본문 전송도 포함).
+ * 재시도 필터 바깥에 있으므로 브레이커는 재시도를 모두 거친 최종 결과로 판정한다.
+ */
+public class UpstreamGuardFilter implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamGuardFilter.class);
+
+    private static final String AGILE_PATH = "/rest/agile/";
+
+    /** 업스트림 하나의 격리 단위. */
+    public record Guard(String name, CircuitBreaker breaker, Bulkhead bulkhead) {
+    }
+
+    private final Guard primary;
+    private final Guard agile;
+    private final long slowCallNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param agile Jira Agile API(/rest/agile/) 전용 격리 단위, Confluence 처럼 없으면 null
+     */
+    UpstreamGuardFilter(Guard primary, Guard agile, long slowCallNanos, LongSupplier nanoClock) {
+        this.primary = primary;
+        this.agile = agile;
+        this.slowCallNanos = slowCallNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public List<Guard> getGuards() {
+        return agile != null ? List.of(primary, agile) : List.of(primary);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Guard guard = agile != null && request.url().getPath().contains(AGILE_PATH) ? agile : primary;
+        return Mono.defer(() -> {
+            CircuitBreaker breaker = guard.breaker();
+            if (!breaker.tryAcquire()) {
+                return Mono.error(UpstreamUnavailableException.circuitOpen(guard.name(), breaker.remainingOpen()));
+            }
+            return guard.bulkhead()
+                .acquire(bulkhead -> UpstreamUnavailableException.bulkheadFull(guard.name(), bulkhead.getMaxConcurrent()))
+                .flatMap(release -> holdUntilBodyDone(timed(guard, next.exchange(request)), release))
+                .doOnError(UpstreamUnavailableException.class, e -> breaker.onIgnored());
+        });
+    }
+
+    /**
+     * 응답을 넘긴 뒤에는 본문 Flux 가 끝날 때(소비 완료, 오류, 취소, releaseBody) 반납하고,
+     * 응답을 넘기기 전에 끝나면 바로 반납한다.
+     */
+    private Mono<ClientResponse> holdUntilBodyDone(Mono<ClientResponse> exchange, Runnable release) {
+        AtomicBoolean handedOver = new AtomicBoolean();
+        return exchange
+            .map(response -> {
+                handedOver.set(true);
+                return response.mutate()
+                    .body(body -> body.doFinally(signal -> release.run()))
+                    .build();
+            })
+            .doFinally(signal -> {
+                if (!handedOver.get()) {
+                    release.run();
+                }
+            });
+    }
+
+    private Mono<ClientResponse> timed(Guard guard, Mono<ClientResponse> exchange) {
+        return Mono.defer(() -> {
+            long start = nanoClock.getAsLong();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return exchange
+                .doOnNext(response -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        record(guard, response.statusCode().is5xxServerError(), start);
+                    }
+                })
+                .doOnError(error -> {
+                    if (!recorded.compareAndSet(false, true)) {
+                        return;
+                    }
+                    if (error instanceof RateLimitExceededException) {
+                        guard.breaker().onIgnored();
+                    } else {
+                        record(guard, true, start);
+                    }
+                })
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL && recorded.compareAndSet(false, true)) {
+                        guard.breaker().onIgnored();
+                    }
+                });
+        });
+    }
+
+    private void record(Guard guard, boolean failure, long start) {
+        CircuitBreaker breaker = guard.breaker();
+        CircuitBreaker.State before = breaker.getState();
+        breaker.onResult(failure, nanoClock.getAsLong() - start > slowCallNanos);
+        CircuitBreaker.State after = breaker.getState();
+        if (before != after) {
+            if (after == CircuitBreaker.State.OPEN) {
+                log.warn("Circuit for {} opened ({} -> OPEN); failing fast for {} s", guard.name(), before,
+                    breaker.remainingOpen().toSeconds());
+            } else {
+                log.info("Circuit for {}: {} -> {}", guard.name(), before, after);
+            }
+        }
+    }
+}
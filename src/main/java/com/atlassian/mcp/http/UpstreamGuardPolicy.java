@@ -0,0 +1,81 @@
+package com.atlassian.mcp.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 업스트림 격리 설정 (atlassian.http.isolation.*).
+ *
+ * Jira 베이스 URL 은 jira-core 와 jira-agile(/rest/agile/) 두 격리 단위로, Confluence 는 하나로 나뉜다.
+ * 동시 실행 한도는 업스트림별, 브레이커 임계값은 공통이다.
+ */
+@Component
+public class UpstreamGuardPolicy {
+
+    private final boolean enabled;
+    private final int jiraCoreMaxConcurrent;
+    private final int jiraAgileMaxConcurrent;
+    private final int confluenceMaxConcurrent;
+    private final int maxQueued;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration slowCallThreshold;
+    private final double slowCallRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    public UpstreamGuardPolicy(
+            @Value("${atlassian.http.isolation.enabled:true}") boolean enabled,
+            @Value("${atlassian.http.isolation.jiraCore.maxConcurrent:64}") int jiraCoreMaxConcurrent,
+            @Value("${atlassian.http.isolation.jiraAgile.maxConcurrent:16}") int jiraAgileMaxConcurrent,
+            @Value("${atlassian.http.isolation.confluence.maxConcurrent:32}") int confluenceMaxConcurrent,
+            @Value("${atlassian.http.isolation.maxQueued:100}") int maxQueued,
+            @Value("${atlassian.http.isolation.breaker.windowSize:50}") int windowSize,
+            @Value("${atlassian.http.isolation.breaker.minimumCalls:20}") int minimumCalls,
+            @Value("${atlassian.http.isolation.breaker.failureRateThreshold:0.5}") double failureRateThreshold,
+            @Value("${atlassian.http.isolation.breaker.slowCallThreshold:10s}") Duration slowCallThreshold,
+            @Value("${atlassian.http.isolation.breaker.slowCallRateThreshold:0.8}") double slowCallRateThreshold,
+            @Value("${atlassian.http.isolation.breaker.openDuration:30s}") Duration openDuration,
+            @Value("${atlassian.http.isolation.breaker.halfOpenCalls:3}") int halfOpenCalls) {
+        this.enabled = enabled;
+        this.jiraCoreMaxConcurrent = jiraCoreMaxConcurrent;
+        this.jiraAgileMaxConcurrent = jiraAgileMaxConcurrent;
+        this.confluenceMaxConcurrent = confluenceMaxConcurrent;
+        this.maxQueued = maxQueued;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThreshold = slowCallThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UpstreamGuardFilter filterFor(AtlassianHttpClients.Product product) {
+        return filterFor(product, System::nanoTime);
+    }
+
+    UpstreamGuardFilter filterFor(AtlassianHttpClients.Product product, LongSupplier nanoClock) {
+        if (product == AtlassianHttpClients.Product.JIRA) {
+            return new UpstreamGuardFilter(guard("jira-core", jiraCoreMaxConcurrent, nanoClock),
+                guard("jira-agile", jiraAgileMaxConcurrent, nanoClock), slowCallThreshold.toNanos(), nanoClock);
+        }
+        return new UpstreamGuardFilter(guard("confluence", confluenceMaxConcurrent, nanoClock), null,
+            slowCallThreshold.toNanos(), nanoClock);
+    }
+
+    private UpstreamGuardFilter.Guard guard(String name, int maxConcurrent, LongSupplier nanoClock) {
+        return new UpstreamGuardFilter.Guard(name,
+            new CircuitBreaker(name, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                openDuration, halfOpenCalls, nanoClock),
+            new Bulkhead(name, maxConcurrent, maxQueued));
+    }
+}
@@ -0,0 +1,38 @@
+package com.atlassian.mcp.http;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커가 열려 있거나 벌크헤드가 가득 차 Atlassian 으로 요청을 보내지 않고 즉시 실패함.
+ * 빠른 실패 경로이므로 스택 트레이스를 만들지 않는다. 도구 결과로 바꾸지 않고 JSON-RPC 오류 -32030 으로 전달된다.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final String upstream;
+    private final Duration retryAfter;
+
+    private UpstreamUnavailableException(String upstream, String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.upstream = upstream;
+        this.retryAfter = retryAfter;
+    }
+
+    public static UpstreamUnavailableException circuitOpen(String upstream, Duration retryAfter) {
+        return new UpstreamUnavailableException(upstream, upstream
+            + " is unavailable (circuit open after repeated failures or slow responses); retry in "
+            + Math.max(1, (retryAfter.toMillis() + 999) / 1000) + "s", retryAfter);
+    }
+
+    static UpstreamUnavailableException bulkheadFull(String upstream, int maxConcurrent) {
+        return new UpstreamUnavailableException(upstream, upstream + " is busy (" + maxConcurrent
+            + " requests in flight and queue full); retry shortly", Duration.ZERO);
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
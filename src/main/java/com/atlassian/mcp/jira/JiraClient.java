@@ -1,33 +1,64 @@
 package com.atlassian.mcp.jira;
 
+import com.atlassian.mcp.core.McpProgress;
+import com.atlassian.mcp.http.AtlassianHttpClients;
+import com.atlassian.mcp.http.FailFastErrors;
+import com.atlassian.mcp.http.JsonStreamDecoder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Jira REST API 클라이언트.
  * Jira Cloud/Server/DC와 통신하는 기본 HTTP 클라이언트.
- * Python의 JiraFetcher와 동일하게 요청별로 생성됨.
+ * Python의 JiraFetcher에 해당하며 토큰 하나에 묶인다. 서버에서는 AtlassianClientFactory 가 토큰별로 만들어 재사용하고,
+ * HTTP 커넥션 풀과 참조 데이터·이슈 캐시는 이 인스턴스 밖에서 공유된다.
  */
 public class JiraClient {
     private final WebClient webClient;
+    private final String token;
     private final ObjectMapper mapper;
+    private final JiraReferenceCache.Scope referenceData;
+    private final JiraIssueCache.Scope issueCache;
 
     /**
      * JiraClient 생성자.
      * Python의 JiraFetcher(config)와 동일한 패턴.
+     * 전용 WebClient 를 새로 만들므로 테스트·단발성 용도로만 사용한다.
      */
     public JiraClient(String baseUrl, String token, ObjectMapper mapper) {
-        this.mapper = mapper;
-        this.webClient = WebClient.builder()
+        this(WebClient.builder()
                 .baseUrl(baseUrl)
-                .defaultHeader("Authorization", "Bearer " + token)
                 .defaultHeader("Content-Type", "application/json")
-                .build();
+                .filter(AtlassianHttpClients.bearerToken())
+                .build(), token, mapper);
+    }
+
+    /**
+     * 공유 WebClient({@link AtlassianHttpClients#forBaseUrl}) 위에서 동작하는 JiraClient.
+     * 토큰은 요청 속성으로 전달되어 커넥션 풀을 사용자 간에 공유한다.
+     */
+    public JiraClient(WebClient webClient, String token, ObjectMapper mapper) {
+        this(webClient, token, mapper, JiraReferenceCache.Scope.none(), JiraIssueCache.Scope.none());
+    }
+
+    /**
+     * 프로젝트·링크 유형·보드·버전·스프린트 목록은 토큰 범위의 참조 데이터 캐시로, 이슈는 공유 이슈 캐시로 조회하는 JiraClient.
+     */
+    public JiraClient(WebClient webClient, String token, ObjectMapper mapper, JiraReferenceCache.Scope referenceData,
+                      JiraIssueCache.Scope issueCache) {
+        this.webClient = webClient;
+        this.token = token;
+        this.mapper = mapper;
+        this.referenceData = referenceData;
+        this.issueCache = issueCache;
     }
 
     /**
@@ -39,6 +70,10 @@ public class JiraClient {
      * @return 이슈 JSON 데이터
      */
     public Mono<JsonNode> getIssue(String issueKey, String fields, String expand) {
+        return issueCache.get(issueKey, fields, expand, (f, e) -> fetchIssue(issueKey, f, e), this::canBrowse);
+    }
+
+    private Mono<JsonNode> fetchIssue(String issueKey, String fields, String expand) {
         return webClient.get()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder.path("/rest/api/2/issue/{issueKey}");
@@ -50,10 +85,27 @@ public class JiraClient {
                     }
                     return builder.build(issueKey);
                 })
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
 
+    /**
+     * 이 토큰이 프로젝트를 볼 수 있는지 (공유 이슈 캐시의 권한 확인). 이전 Jira 는 BROWSE 로 답한다.
+     */
+    private Mono<Boolean> canBrowse(String projectKey) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/rest/api/2/mypermissions")
+                        .queryParam("projectKey", projectKey)
+                        .queryParam("permissions", "BROWSE_PROJECTS")
+                        .build())
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(node -> node.path("permissions").path("BROWSE_PROJECTS").path("havePermission").asBoolean()
+                        || node.path("permissions").path("BROWSE").path("havePermission").asBoolean());
+    }
+
     /**
      * JQL 검색.
      * 
@@ -65,6 +117,58 @@ public class JiraClient {
      * @return 검색 결과 JSON
      */
     public Mono<JsonNode> searchIssues(String jql, String fields, int startAt, int maxResults, String expand) {
+        return searchRequest(jql, fields, startAt, maxResults, expand)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+    }
+
+    /**
+     * JQL 검색 (스트리밍).
+     * 응답의 issues 를 하나씩 내보내며 전체 JSON 트리를 만들지 않는다.
+     *
+     * @param keepPaths 이슈에서 남길 경로 (예: fields.status.name), null 이면 전부
+     * @return 최상위 스칼라(total 등)와 이슈 원소
+     */
+    public Flux<JsonStreamDecoder.Part> streamSearchIssues(String jql, String fields, int startAt, int maxResults,
+                                                           String expand, Set<String> keepPaths) {
+        return streamIssues(searchRequest(jql, fields, startAt, maxResults, expand), keepPaths);
+    }
+
+    /**
+     * 토큰 기반 JQL 검색 (/rest/api/2/search/jql, Jira Cloud).
+     * startAt 대신 이전 응답의 nextPageToken 으로 다음 페이지를 요청한다.
+     *
+     * @param nextPageToken 첫 페이지면 null
+     * @return issues, nextPageToken, isLast 를 담은 검색 결과 JSON
+     */
+    public Mono<JsonNode> searchJql(String jql, String fields, String nextPageToken, int maxResults, String expand) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("jql", jql);
+        body.put("maxResults", maxResults);
+        body.put("fields", fields != null ? fields.split(",") : new String[]{"summary", "status"});
+        if (expand != null) body.put("expand", expand);
+        if (nextPageToken != null) body.put("nextPageToken", nextPageToken);
+
+        return webClient.post()
+                .uri("/rest/api/2/search/jql")
+                .bodyValue(body)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                .attribute(AtlassianHttpClients.IDEMPOTENT_ATTRIBUTE, true)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+    }
+
+    /**
+     * JQL 에 맞는 이슈를 페이지를 넘기며 하나씩 내보낸다 (최대 maxIssues 건).
+     * total 을 알면 남은 페이지를 제한된 병렬로 미리 가져오고, 오프셋 검색이 제거된 인스턴스에서는
+     * nextPageToken 검색으로 전환한다. 구독을 취소하면 남은 페이지 요청도 취소된다.
+     */
+    public Flux<JsonNode> searchAll(String jql, String fields, String expand, int maxIssues) {
+        return JiraSearchPager.searchAll(this, jql, fields, expand, maxIssues);
+    }
+
+    private WebClient.RequestHeadersSpec<?> searchRequest(String jql, String fields, int startAt, int maxResults,
+                                                          String expand) {
         var body = Map.of(
                 "jql", jql,
                 "startAt", startAt,
@@ -76,18 +180,28 @@ public class JiraClient {
         return webClient.post()
                 .uri("/rest/api/2/search")
                 .bodyValue(body)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                .attribute(AtlassianHttpClients.IDEMPOTENT_ATTRIBUTE, true);
+    }
+
+    private Flux<JsonStreamDecoder.Part> streamIssues(WebClient.RequestHeadersSpec<?> request, Set<String> keepPaths) {
+        Flux<DataBuffer> body = request
+                .attribute(AtlassianHttpClients.STREAMING_ATTRIBUTE, true)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToFlux(DataBuffer.class);
+        return JsonStreamDecoder.decode(body, mapper.getFactory(), "issues", keepPaths);
     }
 
     public Mono<JsonNode> getUserProfile(String userIdentifier) {
         return webClient.get()
                 .uri("/rest/api/2/user?username={user}", userIdentifier)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class)
-                .onErrorResume(e -> 
+                .onErrorResume(FailFastErrors::isToolFailure, e -> 
                     webClient.get()
                         .uri("/rest/api/2/user?accountId={accountId}", userIdentifier)
+                        .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                         .retrieve()
                         .bodyToMono(JsonNode.class)
                 );
@@ -96,6 +210,7 @@ public class JiraClient {
     public Mono<JsonNode> getFields() {
         return webClient.get()
                 .uri("/rest/api/2/field")
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -103,6 +218,7 @@ public class JiraClient {
     public Mono<JsonNode> getTransitions(String issueKey) {
         return webClient.get()
                 .uri("/rest/api/2/issue/{issueKey}/transitions", issueKey)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -110,26 +226,42 @@ public class JiraClient {
     public Mono<JsonNode> getWorklogs(String issueKey) {
         return webClient.get()
                 .uri("/rest/api/2/issue/{issueKey}/worklog", issueKey)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
 
     public Mono<JsonNode> getAgileBoards(String boardName, String projectKey, String boardType, int startAt, int maxResults) {
-        return webClient.get()
-                .uri(uriBuilder -> {
-                    var builder = uriBuilder.path("/rest/agile/1.0/board")
-                            .queryParam("startAt", startAt)
-                            .queryParam("maxResults", maxResults);
-                    if (boardName != null) builder.queryParam("name", boardName);
-                    if (projectKey != null) builder.queryParam("projectKeyOrId", projectKey);
-                    if (boardType != null) builder.queryParam("type", boardType);
-                    return builder.build();
-                })
+        return referenceData.get(JiraReferenceCache.Type.BOARDS,
+                String.join("|", projectKey + "", boardName + "", boardType + "", startAt + "", maxResults + ""),
+                () -> webClient.get()
+                        .uri(uriBuilder -> {
+                            var builder = uriBuilder.path("/rest/agile/1.0/board")
+                                    .queryParam("startAt", startAt)
+                                    .queryParam("maxResults", maxResults);
+                            if (boardName != null) builder.queryParam("name", boardName);
+                            if (projectKey != null) builder.queryParam("projectKeyOrId", projectKey);
+                            if (boardType != null) builder.queryParam("type", boardType);
+                            return builder.build();
+                        })
+                        .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class));
+    }
+
+    public Mono<JsonNode> getBoardIssues(String boardId, String jql, String fields, int startAt, int maxResults, String expand) {
+        return boardIssuesRequest(boardId, jql, fields, startAt, maxResults, expand)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
 
-    public Mono<JsonNode> getBoardIssues(String boardId, String jql, String fields, int startAt, int maxResults, String expand) {
+    public Flux<JsonStreamDecoder.Part> streamBoardIssues(String boardId, String jql, String fields, int startAt,
+                                                          int maxResults, String expand, Set<String> keepPaths) {
+        return streamIssues(boardIssuesRequest(boardId, jql, fields, startAt, maxResults, expand), keepPaths);
+    }
+
+    private WebClient.RequestHeadersSpec<?> boardIssuesRequest(String boardId, String jql, String fields, int startAt,
+                                                               int maxResults, String expand) {
         return webClient.get()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder.path("/rest/agile/1.0/board/{boardId}/issue")
@@ -140,24 +272,38 @@ public class JiraClient {
                     if (expand != null) builder.queryParam("expand", expand);
                     return builder.build(boardId);
                 })
-                .retrieve()
-                .bodyToMono(JsonNode.class);
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token);
     }
 
     public Mono<JsonNode> getSprintsFromBoard(String boardId, String state, int startAt, int maxResults) {
-        return webClient.get()
-                .uri(uriBuilder -> {
-                    var builder = uriBuilder.path("/rest/agile/1.0/board/{boardId}/sprint")
-                            .queryParam("startAt", startAt)
-                            .queryParam("maxResults", maxResults);
-                    if (state != null) builder.queryParam("state", state);
-                    return builder.build(boardId);
-                })
+        return referenceData.get(JiraReferenceCache.Type.SPRINTS,
+                String.join("|", boardId, state + "", startAt + "", maxResults + ""),
+                () -> webClient.get()
+                        .uri(uriBuilder -> {
+                            var builder = uriBuilder.path("/rest/agile/1.0/board/{boardId}/sprint")
+                                    .queryParam("startAt", startAt)
+                                    .queryParam("maxResults", maxResults);
+                            if (state != null) builder.queryParam("state", state);
+                            return builder.build(boardId);
+                        })
+                        .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class));
+    }
+
+    public Mono<JsonNode> getSprintIssues(String sprintId, String fields, int startAt, int maxResults) {
+        return sprintIssuesRequest(sprintId, fields, startAt, maxResults)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
 
-    public Mono<JsonNode> getSprintIssues(String sprintId, String fields, int startAt, int maxResults) {
+    public Flux<JsonStreamDecoder.Part> streamSprintIssues(String sprintId, String fields, int startAt, int maxResults,
+                                                           Set<String> keepPaths) {
+        return streamIssues(sprintIssuesRequest(sprintId, fields, startAt, maxResults), keepPaths);
+    }
+
+    private WebClient.RequestHeadersSpec<?> sprintIssuesRequest(String sprintId, String fields, int startAt,
+                                                                int maxResults) {
         return webClient.get()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder.path("/rest/agile/1.0/sprint/{sprintId}/issue")
@@ -166,35 +312,38 @@ public class JiraClient {
                     if (fields != null) builder.queryParam("fields", fields);
                     return builder.build(sprintId);
                 })
-                .retrieve()
-                .bodyToMono(JsonNode.class);
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token);
     }
 
     public Mono<JsonNode> getIssueLinkTypes() {
-        return webClient.get()
+        return referenceData.get(JiraReferenceCache.Type.LINK_TYPES, "", () -> webClient.get()
                 .uri("/rest/api/2/issueLinkType")
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class));
     }
 
     public Mono<JsonNode> getProjectVersions(String projectKey) {
-        return webClient.get()
+        return referenceData.get(JiraReferenceCache.Type.VERSIONS, projectKey, () -> webClient.get()
                 .uri("/rest/api/2/project/{projectKey}/versions", projectKey)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class));
     }
 
     public Mono<JsonNode> getAllProjects() {
-        return webClient.get()
+        return referenceData.get(JiraReferenceCache.Type.PROJECTS, "", () -> webClient.get()
                 .uri("/rest/api/2/project")
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class));
     }
 
     public Mono<JsonNode> createIssue(Map<String, Object> issueData) {
         return webClient.post()
                 .uri("/rest/api/2/issue")
                 .bodyValue(Map.of("fields", issueData))
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -203,40 +352,50 @@ public class JiraClient {
         return webClient.put()
                 .uri("/rest/api/2/issue/{issueKey}", issueKey)
                 .bodyValue(Map.of("fields", updateData))
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .toBodilessEntity()
+                .doOnTerminate(() -> issueCache.invalidate(issueKey))
                 .then(getIssue(issueKey, null, null));
     }
 
     public Mono<Void> deleteIssue(String issueKey) {
         return webClient.delete()
                 .uri("/rest/api/2/issue/{issueKey}", issueKey)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(Void.class);
+                .bodyToMono(Void.class)
+                .doOnTerminate(() -> issueCache.invalidate(issueKey));
     }
 
     public Mono<JsonNode> addComment(String issueKey, String comment) {
         return webClient.post()
                 .uri("/rest/api/2/issue/{issueKey}/comment", issueKey)
                 .bodyValue(Map.of("body", comment))
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                .doOnTerminate(() -> issueCache.invalidate(issueKey));
     }
 
     public Mono<JsonNode> addWorklog(String issueKey, Map<String, Object> worklogData) {
         return webClient.post()
                 .uri("/rest/api/2/issue/{issueKey}/worklog", issueKey)
                 .bodyValue(worklogData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                .doOnTerminate(() -> issueCache.invalidate(issueKey));
     }
 
     public Mono<JsonNode> transitionIssue(String issueKey, Map<String, Object> transitionData) {
         return webClient.post()
                 .uri("/rest/api/2/issue/{issueKey}/transitions", issueKey)
                 .bodyValue(transitionData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .toBodilessEntity()
+                .doOnTerminate(() -> issueCache.invalidate(issueKey))
                 .then(getIssue(issueKey, null, null));
     }
 
@@ -244,33 +403,64 @@ public class JiraClient {
         return webClient.post()
                 .uri("/rest/api/2/issueLink")
                 .bodyValue(linkData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .toBodilessEntity()
+                .doOnTerminate(() -> {
+                    invalidateLinkedIssue(linkData.get("inwardIssue"));
+                    invalidateLinkedIssue(linkData.get("outwardIssue"));
+                })
                 .thenReturn(mapper.createObjectNode().put("success", true));
     }
 
+    private void invalidateLinkedIssue(Object issue) {
+        if (issue instanceof Map<?, ?> map && map.get("key") instanceof String key) {
+            issueCache.invalidate(key);
+        }
+    }
+
     public Mono<JsonNode> createRemoteIssueLink(String issueKey, Map<String, Object> linkData) {
         return webClient.post()
                 .uri("/rest/api/2/issue/{issueKey}/remotelink", issueKey)
                 .bodyValue(linkData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                .doOnTerminate(() -> issueCache.invalidate(issueKey));
     }
 
+    /**
+     * 이슈 링크 삭제. 이슈를 캐시하면 어느 이슈의 issuelinks 가 바뀌는지 알기 위해 링크를 먼저 조회한다.
+     */
     public Mono<JsonNode> removeIssueLink(String linkId) {
-        return webClient.delete()
-                .uri("/rest/api/2/issueLink/{linkId}", linkId)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .onErrorReturn(mapper.createObjectNode());
+        Mono<java.util.List<String>> linkedKeys = !issueCache.isEnabled() ? Mono.just(java.util.List.of())
+                : webClient.get()
+                        .uri("/rest/api/2/issueLink/{linkId}", linkId)
+                        .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .map(link -> java.util.stream.Stream.of("inwardIssue", "outwardIssue")
+                                .map(side -> link.path(side).path("key").asText(""))
+                                .filter(key -> !key.isEmpty())
+                                .toList())
+                        .onErrorReturn(FailFastErrors::isToolFailure, java.util.List.of());
+        return linkedKeys.flatMap(keys -> webClient.delete()
+                        .uri("/rest/api/2/issueLink/{linkId}", linkId)
+                        .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .doOnTerminate(() -> keys.forEach(issueCache::invalidate)))
+                .onErrorReturn(FailFastErrors::isToolFailure, mapper.createObjectNode());
     }
 
     public Mono<JsonNode> linkToEpic(String issueKey, String epicKey) {
         return webClient.post()
                 .uri("/rest/agile/1.0/epic/{epicKey}/issue", epicKey)
                 .bodyValue(Map.of("issues", new String[]{issueKey}))
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .toBodilessEntity()
+                .doOnTerminate(() -> issueCache.invalidate(issueKey))
                 .then(getIssue(issueKey, null, null));
     }
 
@@ -280,6 +470,7 @@ public class JiraClient {
                 .bodyValue(Map.of("issueUpdates", issuesData.stream()
                         .map(data -> Map.of("fields", data))
                         .toList()))
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
                 .bodyToMono(JsonNode.class);
     }
@@ -288,16 +479,21 @@ public class JiraClient {
         return webClient.post()
                 .uri("/rest/agile/1.0/sprint")
                 .bodyValue(sprintData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                .doOnSuccess(created -> referenceData.invalidate(JiraReferenceCache.Type.SPRINTS, boardId));
     }
 
     public Mono<JsonNode> updateSprint(String sprintId, Map<String, Object> sprintData) {
         return webClient.put()
                 .uri("/rest/agile/1.0/sprint/{sprintId}", sprintId)
                 .bodyValue(sprintData)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                // 스프린트 id 로는 보드를 알 수 없으므로 전체
+                .doOnSuccess(updated -> referenceData.invalidate(JiraReferenceCache.Type.SPRINTS, null));
     }
 
     public Mono<JsonNode> createVersion(String projectKey, Map<String, Object> versionData) {
@@ -306,13 +502,16 @@ public class JiraClient {
         return webClient.post()
                 .uri("/rest/api/2/version")
                 .bodyValue(data)
+                .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
                 .retrieve()
-                .bodyToMono(JsonNode.class);
+                .bodyToMono(JsonNode.class)
+                .doOnSuccess(created -> referenceData.invalidate(JiraReferenceCache.Type.VERSIONS, projectKey));
     }
 
     public Mono<JsonNode> batchGetChangelogs(java.util.List<String> issueKeys) {
         return reactor.core.publisher.Flux.fromIterable(issueKeys)
                 .flatMap(key -> getIssue(key, null, "changelog"))
+                .transform(issues -> McpProgress.track(issues, issueKeys.size(), issue -> issue.path("key").asText()))
                 .collectList()
                 .map(list -> {
                     com.fasterxml.jackson.databind.node.ArrayNode array = mapper.createArrayNode();
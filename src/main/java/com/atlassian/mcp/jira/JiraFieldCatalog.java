@@ -0,0 +1,53 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Jira 인스턴스의 필드 목록 캐시 (jira_search_fields).
+ *
+ * 필드 목록은 인스턴스 설정이라 자주 바뀌지 않으므로 한 번 받아 {@link JiraFieldIndex} 로 색인해 두고 ttl 동안 다시 받지 않는다.
+ * refresh 요청은 즉시 다시 받는다. ttl 이 지난 뒤 다시 받기에 실패하면 이전 목록을 계속 쓴다.
+ */
+final class JiraFieldCatalog {
+
+    private record Snapshot(JiraFieldIndex index, long loadedAt) {
+    }
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private volatile Snapshot snapshot;
+
+    JiraFieldCatalog(Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    JiraFieldCatalog(Duration ttl, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param fetch 필드 목록을 받아오는 요청 (캐시가 유효하면 호출하지 않는다)
+     * @param refresh true 면 캐시와 무관하게 다시 받는다
+     */
+    Mono<JiraFieldIndex> get(Supplier<Mono<JsonNode>> fetch, boolean refresh) {
+        return Mono.defer(() -> {
+            Snapshot current = snapshot;
+            if (!refresh && current != null && nanoClock.getAsLong() - current.loadedAt() < ttlNanos) {
+                return Mono.just(current.index());
+            }
+            Mono<JiraFieldIndex> load = fetch.get()
+                    .map(JiraFieldIndex::of)
+                    .doOnNext(index -> snapshot = new Snapshot(index, nanoClock.getAsLong()));
+            if (current == null || refresh) {
+                return load;
+            }
+            return load.onErrorResume(e -> Mono.just(current.index()));
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Jira 필드 목록(/rest/api/2/field)의 메모리 검색 색인 ({@link JiraFieldCatalog}).
+ *
+ * 필드 이름과 id 의 소문자 trigram 마다 해당 필드 번호 목록을 둔다. 키워드의 trigram 목록을 훑어 필드별 일치 수를 세므로
+ * 필드 수와 무관하게 키워드와 겹치는 필드만 본다. 모든 trigram 이 일치한 필드는 부분 문자열인지 확인하고,
+ * 일부만 일치한 필드는 일치 비율이 {@link #FUZZY_THRESHOLD} 이상이면 오타·어순 차이로 보고 뒤에 붙인다.
+ * 3 글자 미만 키워드는 trigram 이 없으므로 전체를 훑는다.
+ */
+final class JiraFieldIndex {
+
+    /** 퍼지 결과로 인정할 키워드 trigram 일치 비율. */
+    static final double FUZZY_THRESHOLD = 0.6;
+
+    record Field(String id, String name, boolean custom) {
+        Map<String, Object> toMap() {
+            return Map.of("id", id, "name", name, "custom", custom);
+        }
+    }
+
+    private record Match(int field, int rank, double score) {
+    }
+
+    private static final int[] NONE = new int[0];
+
+    private final List<Field> fields;
+    private final String[] names;
+    private final String[] ids;
+    private final Map<String, int[]> postings;
+
+    private JiraFieldIndex(List<Field> fields) {
+        this.fields = fields;
+        this.names = new String[fields.size()];
+        this.ids = new String[fields.size()];
+        Map<String, List<Integer>> lists = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            names[i] = fields.get(i).name().toLowerCase(Locale.ROOT);
+            ids[i] = fields.get(i).id().toLowerCase(Locale.ROOT);
+            Set<String> grams = trigrams(names[i]);
+            grams.addAll(trigrams(ids[i]));
+            for (String gram : grams) {
+                lists.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+            }
+        }
+        this.postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    static JiraFieldIndex of(JsonNode fieldList) {
+        List<Field> fields = new ArrayList<>();
+        fieldList.forEach(field -> fields.add(new Field(
+                field.path("id").asText(), field.path("name").asText(), field.path("custom").asBoolean())));
+        return new JiraFieldIndex(List.copyOf(fields));
+    }
+
+    int size() {
+        return fields.size();
+    }
+
+    /**
+     * 키워드로 필드를 찾는다. 정확히 같은 이름·id, 접두사, 부분 문자열, 퍼지 일치 순이며 같은 순위는 Jira 가 준 순서를 따른다.
+     * 빈 키워드는 앞에서부터 limit 개.
+     */
+    List<Field> search(String keyword, int limit) {
+        String query = keyword == null ? "" : keyword.strip().toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) {
+            return fields.subList(0, Math.min(limit, fields.size()));
+        }
+        List<Match> matches = new ArrayList<>();
+        Set<String> grams = trigrams(query);
+        if (grams.isEmpty()) {
+            for (int i = 0; i < fields.size(); i++) {
+                int rank = rank(i, query);
+                if (rank >= 0) {
+                    matches.add(new Match(i, rank, 1.0));
+                }
+            }
+        } else {
+            int[] counts = new int[fields.size()];
+            for (String gram : grams) {
+                for (int field : postings.getOrDefault(gram, NONE)) {
+                    counts[field]++;
+                }
+            }
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                int rank = counts[i] == grams.size() ? rank(i, query) : -1;
+                double score = (double) counts[i] / grams.size();
+                if (rank >= 0) {
+                    matches.add(new Match(i, rank, score));
+                } else if (score >= FUZZY_THRESHOLD) {
+                    matches.add(new Match(i, 3, score));
+                }
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::rank)
+                        .thenComparing(Comparator.comparingDouble(Match::score).reversed())
+                        .thenComparingInt(Match::field))
+                .limit(limit)
+                .map(match -> fields.get(match.field()))
+                .toList();
+    }
+
+    /** 0: 같음, 1: 접두사, 2: 부분 문자열, -1: 불일치 */
+    private int rank(int field, String query) {
+        String name = names[field];
+        String id = ids[field];
+        if (name.equals(query) || id.equals(query)) {
+            return 0;
+        }
+        if (name.startsWith(query) || id.startsWith(query)) {
+            return 1;
+        }
+        return name.contains(query) || id.contains(query) ? 2 : -1;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
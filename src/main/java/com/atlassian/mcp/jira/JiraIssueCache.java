@@ -0,0 +1,328 @@
+package com.atlassian.mcp.jira;
+
+import com.atlassian.mcp.auth.TokenFingerprint;
+import com.atlassian.mcp.cache.TtlCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 간에 공유하는 Jira 이슈 캐시 (atlassian.jira.issueCache.*).
+ *
+ * 이슈 본문은 (베이스 URL, 이슈 키) 항목 하나 아래 (fields, expand) 변형별로 저장하고 updated 값으로 버전을 구분한다.
+ * 같은 이슈의 더 새로운 updated 를 받으면 이전 버전의 모든 변형을 버린다. 항목 단위로 저장·축출·무효화하므로 전체를 훑지 않는다. 다른 토큰에 내주기 전에 그 토큰이
+ * 이슈의 프로젝트를 볼 수 있는지 확인하며, 결과는 (토큰 지문, 프로젝트) 별로 permissionTtl 동안 기억한다.
+ * 직접 조회에 성공한 토큰은 그 프로젝트 권한이 있는 것으로 본다.
+ *
+ * 프로젝트 권한만으로 가려지지 않는 이슈는 공유하지 않는다. Jira 는 숨겨진 필드를 응답에서 빼므로 보안 수준은 security 가
+ * null 로 명시되고 names 확장에도 있을 때만 없다고 보고, 그 외(필드 누락 포함)에는 공유하지 않는다. 사용자마다 내용이 다른 필드
+ * (댓글·작업 로그의 공개 범위, watches/votes 의 본인 여부)와 확장(transitions, editmeta, operations), 그리고 이런 필드를
+ * 포함하는 전체 필드 요청. 담당자·보고자 같은 사용자 객체는 보는 사람에 따라 이메일·프로필 노출이 다르므로 공유 사본에서는
+ * {@link #PUBLIC_USER_PROPERTIES} 만 남긴다. 이 도구들이 이슈를 바꾸면(updateIssue, transitionIssue, addComment 등) 그 이슈의 항목을 지운다.
+ * 밖에서 바뀐 내용은 maxAge 가 지나면 다시 받는다.
+ */
+@Component
+public class JiraIssueCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraIssueCache.class);
+
+    /** 사용자마다 보이는 내용이 다를 수 있는 필드. 전체 필드 요청(*all, *navigable, 빈 값)도 이들을 포함한다. */
+    static final Set<String> USER_RELATIVE_FIELDS = Set.of(
+            "*all", "*navigable", "comment", "worklog", "watches", "votes");
+
+    /** 사용자 권한에 따라 달라지는 확장. */
+    static final Set<String> USER_RELATIVE_EXPANDS = Set.of("transitions", "editmeta", "operations");
+
+    /** 공유 여부 판단에 필요해 조회 시 덧붙이는 필드. 요청하지 않았으면 응답에서 다시 뺀다. */
+    private static final String[] PROBE_FIELDS = {"updated", "project", "security"};
+
+    /** security 필드가 호출자에게 보이는지 확인하려고 덧붙이는 확장. */
+    private static final String PROBE_EXPAND = "names";
+
+    /** 공유 사본의 사용자 객체에 남기는 속성. 이메일, 아바타, 시간대 등은 뺀다. */
+    static final Set<String> PUBLIC_USER_PROPERTIES = Set.of("self", "accountId", "name", "key", "displayName", "active");
+
+    private record Key(String tenant, String issueKey) {
+    }
+
+    private record Variant(String fields, String expand) {
+    }
+
+    private record Entry(JsonNode issue, String project, long loadedAt) {
+    }
+
+    /** 이슈 한 버전의 변형들. 바꿀 때는 새 맵으로 다시 저장한다. */
+    private record Versions(String updated, Map<Variant, Entry> variants) {
+    }
+
+    private record Grant(String scope, String project) {
+    }
+
+    private final boolean enabled;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    // 무게는 변형 수. maxEntries 는 모든 이슈의 변형 수 합의 상한이다
+    private final TtlCache<Key, Versions> issues;
+    private final TtlCache<Grant, Boolean> grants;
+    // 무효화 이전에 시작한 조회 결과가 무효화 뒤에 저장되지 않도록
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong sharedHits = new AtomicLong();
+    private final AtomicLong permissionChecks = new AtomicLong();
+
+    @Autowired
+    public JiraIssueCache(
+            @Value("${atlassian.jira.issueCache.enabled:true}") boolean enabled,
+            @Value("${atlassian.jira.issueCache.maxEntries:10000}") int maxEntries,
+            @Value("${atlassian.jira.issueCache.maxAge:5m}") Duration maxAge,
+            @Value("${atlassian.jira.issueCache.permissionTtl:60s}") Duration permissionTtl) {
+        this(enabled, maxEntries, maxAge, permissionTtl, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 테스트용 시계
+     */
+    JiraIssueCache(boolean enabled, int maxEntries, Duration maxAge, Duration permissionTtl, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.nanoClock = nanoClock;
+        this.issues = new TtlCache<>("jira-issues", maxEntries, maxEntries, versions -> versions.variants().size(),
+                maxAge, nanoClock);
+        this.grants = new TtlCache<>("jira-issue-permissions", maxEntries, permissionTtl, nanoClock);
+    }
+
+    /**
+     * 토큰 하나에 묶인 캐시.
+     */
+    public Scope scope(String tenant, String token) {
+        return new Scope(this, tenant, TokenFingerprint.of(tenant, token));
+    }
+
+    public TtlCache.Stats stats() {
+        return issues.stats();
+    }
+
+    /**
+     * 캐시에서 내준 이슈 수 (다른 토큰이 받아 둔 이슈 포함).
+     */
+    public long getSharedHits() {
+        return sharedHits.get();
+    }
+
+    /**
+     * 프로젝트 권한을 Jira 에 확인한 횟수.
+     */
+    public long getPermissionChecks() {
+        return permissionChecks.get();
+    }
+
+    static boolean isShareable(String fields, String expand) {
+        if (fields == null || fields.isBlank()) {
+            return false;
+        }
+        for (String field : fields.split(",")) {
+            if (USER_RELATIVE_FIELDS.contains(field.strip().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        if (expand != null) {
+            for (String item : expand.split(",")) {
+                if (USER_RELATIVE_EXPANDS.contains(item.strip().toLowerCase(Locale.ROOT))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Mono<JsonNode> get(String tenant, String scope, String issueKey, String fields, String expand,
+                               BiFunction<String, String, Mono<JsonNode>> fetch,
+                               Function<String, Mono<Boolean>> canBrowse) {
+        if (!enabled || !isShareable(fields, expand)) {
+            return fetch.apply(fields, expand);
+        }
+        Key key = new Key(tenant, issueKey.toUpperCase(Locale.ROOT));
+        Variant variant = new Variant(fields, expand == null ? "" : expand);
+        return Mono.defer(() -> {
+            Versions versions = issues.get(key);
+            Entry entry = versions == null ? null : versions.variants().get(variant);
+            if (entry == null || nanoClock.getAsLong() - entry.loadedAt() >= maxAgeNanos) {
+                return load(key, variant, scope, fetch);
+            }
+            Grant grant = new Grant(scope, entry.project());
+            Boolean allowed = grants.get(grant);
+            if (allowed != null) {
+                return allowed ? hit(entry) : load(key, variant, scope, fetch);
+            }
+            permissionChecks.incrementAndGet();
+            return canBrowse.apply(entry.project())
+                    .onErrorResume(e -> {
+                        log.debug("Permission check for project {} failed: {}", entry.project(), e.getMessage());
+                        return Mono.just(false);
+                    })
+                    .defaultIfEmpty(false)
+                    .flatMap(ok -> {
+                        grants.put(grant, ok);
+                        return ok ? hit(entry) : load(key, variant, scope, fetch);
+                    });
+        });
+    }
+
+    private Mono<JsonNode> hit(Entry entry) {
+        sharedHits.incrementAndGet();
+        // 여러 토큰이 같은 노드를 받으므로 호출자가 고쳐도 캐시에 닿지 않게 사본을 내준다
+        return Mono.just(entry.issue().deepCopy());
+    }
+
+    private Mono<JsonNode> load(Key key, Variant variant, String scope,
+                                BiFunction<String, String, Mono<JsonNode>> fetch) {
+        Set<String> requested = new LinkedHashSet<>(
+                Arrays.stream(variant.fields().split(",")).map(String::strip).toList());
+        Set<String> added = new LinkedHashSet<>(Arrays.asList(PROBE_FIELDS));
+        added.removeAll(requested);
+        Set<String> withProbes = new LinkedHashSet<>(requested);
+        withProbes.addAll(added);
+        boolean namesAdded = Arrays.stream(variant.expand().split(","))
+                .noneMatch(item -> item.strip().equalsIgnoreCase(PROBE_EXPAND));
+        String expand = !namesAdded ? variant.expand()
+                : variant.expand().isBlank() ? PROBE_EXPAND : variant.expand() + "," + PROBE_EXPAND;
+        long started = generation.get();
+        return fetch.apply(String.join(",", withProbes), expand).map(issue -> {
+            JsonNode issueFields = issue.path("fields");
+            String updated = issueFields.path("updated").asText(null);
+            String project = issueFields.path("project").path("key").asText(null);
+            // 필드가 빠졌으면 숨겨진 것일 수 있으므로 보안 수준이 있다고 본다
+            boolean unsecured = issueFields.has("security") && issueFields.get("security").isNull()
+                    && issue.path(PROBE_EXPAND).has("security");
+            if (issueFields instanceof ObjectNode object) {
+                object.remove(added);
+            }
+            if (namesAdded && issue instanceof ObjectNode object) {
+                object.remove(PROBE_EXPAND);
+            }
+            // id 로 조회했거나 키가 바뀐 이슈는 키 기준 무효화가 닿지 않으므로 저장하지 않는다
+            boolean sameKey = key.issueKey().equals(issue.path("key").asText().toUpperCase(Locale.ROOT));
+            if (updated != null && project != null && unsecured && sameKey) {
+                grants.put(new Grant(scope, project), true);
+                store(key, variant, updated, new Entry(shareableCopy(issue), project, nanoClock.getAsLong()), started);
+            }
+            return issue;
+        });
+    }
+
+    /**
+     * 다른 토큰에 내줄 사본. 필드 값(배열 원소 포함)인 사용자 객체는 공개 속성만 남긴다.
+     */
+    static JsonNode shareableCopy(JsonNode issue) {
+        JsonNode copy = issue.deepCopy();
+        for (JsonNode value : copy.path("fields")) {
+            if (value.isArray()) {
+                value.forEach(JiraIssueCache::reduceUser);
+            } else {
+                reduceUser(value);
+            }
+        }
+        return copy;
+    }
+
+    private static void reduceUser(JsonNode value) {
+        if (value instanceof ObjectNode object
+                && (object.has("accountId") || object.path("self").asText().contains("/user?"))) {
+            object.retain(PUBLIC_USER_PROPERTIES);
+        }
+    }
+
+    private void store(Key key, Variant variant, String updated, Entry entry, long started) {
+        synchronized (issues) {
+            if (generation.get() != started) {
+                // 조회 도중 우리 쓰기로 무효화되었으므로 쓰기 이전 내용일 수 있다
+                return;
+            }
+            Versions current = issues.get(key);
+            if (current != null && updated.compareTo(current.updated()) < 0) {
+                // 늦게 도착한 이전 버전
+                return;
+            }
+            Map<Variant, Entry> variants = new HashMap<>();
+            if (current != null && updated.equals(current.updated())) {
+                variants.putAll(current.variants());
+            }
+            variants.put(variant, entry);
+            issues.put(key, new Versions(updated, Map.copyOf(variants)));
+        }
+    }
+
+    private void invalidate(String tenant, String issueKey) {
+        String normalized = issueKey.toUpperCase(Locale.ROOT);
+        synchronized (issues) {
+            generation.incrementAndGet();
+            issues.invalidate(new Key(tenant, normalized));
+        }
+        log.debug("Invalidated cached variants of Jira issue {}", normalized);
+    }
+
+    /**
+     * 요청별 JiraClient 가 쓰는 캐시 view. {@link #none()} 은 캐시 없이 항상 조회한다.
+     */
+    public static final class Scope {
+
+        private static final Scope NONE = new Scope(null, null, null);
+
+        private final JiraIssueCache cache;
+        private final String tenant;
+        private final String scope;
+
+        private Scope(JiraIssueCache cache, String tenant, String scope) {
+            this.cache = cache;
+            this.tenant = tenant;
+            this.scope = scope;
+        }
+
+        public static Scope none() {
+            return NONE;
+        }
+
+        /**
+         * @param fetch 주어진 fields, expand 로 이 토큰으로 이슈를 조회
+         * @param canBrowse 이 토큰이 프로젝트를 볼 수 있는지 확인
+         */
+        public Mono<JsonNode> get(String issueKey, String fields, String expand,
+                                  BiFunction<String, String, Mono<JsonNode>> fetch,
+                                  Function<String, Mono<Boolean>> canBrowse) {
+            return cache == null ? fetch.apply(fields, expand)
+                    : cache.get(tenant, scope, issueKey, fields, expand, fetch, canBrowse);
+        }
+
+        /**
+         * 이 view 가 실제로 이슈를 캐시하는지 (무효화할 대상을 찾는 추가 조회가 필요한지).
+         */
+        public boolean isEnabled() {
+            return cache != null && cache.enabled;
+        }
+
+        /**
+         * 모든 토큰 범위에서 이슈의 모든 변형을 지운다.
+         */
+        public void invalidate(String issueKey) {
+            if (cache != null) {
+                cache.invalidate(tenant, issueKey);
+            }
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.atlassian.mcp.jira;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.atlassian.mcp.http.FailFastErrors;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
@@ -59,7 +59,7 @@ public class JiraReadToolsA {
                     });
                     return Map.<String, Object>of("success", true, "issues", results);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -111,7 +111,7 @@ public class JiraReadToolsA {
                     )));
                     return Map.<String, Object>of("success", true, "boards", boards);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -131,7 +131,7 @@ public class JiraReadToolsA {
                     )));
                     return Map.<String, Object>of("success", true, "projects", projectList);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -158,9 +158,9 @@ public class JiraReadToolsA {
             return Mono.error(new IllegalArgumentException("board_id is required"));
         }
         
-        return getClient().getBoardIssues(boardId, jql, fields, startAt, limit, expand)
-                .map(this::convertSearchResults)
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+        return JiraSearchResults.collect(getClient().streamBoardIssues(boardId, jql, fields, startAt, limit, expand,
+                        JiraSearchResults.SIMPLIFIED_PATHS))
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -184,45 +184,11 @@ public class JiraReadToolsA {
         }
 
         return getClient().getIssue(issueKey, fields, expand)
-                .map(this::convertToSimplified)
-                .onErrorResume(e -> Mono.just(Map.of(
+                .map(JiraSearchResults::simplify)
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of(
                         "success", false,
                         "error", e.getMessage(),
                         "issue_key", issueKey
                 )));
     }
-
-    // Helper methods
-    private Map<String, Object> convertToSimplified(JsonNode node) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("key", node.path("key").asText());
-        result.put("id", node.path("id").asText());
-        
-        JsonNode fields = node.path("fields");
-        Map<String, Object> fieldsMap = new HashMap<>();
-        fieldsMap.put("summary", fields.path("summary").asText());
-        fieldsMap.put("status", fields.path("status").path("name").asText());
-        fieldsMap.put("assignee", fields.path("assignee").path("displayName").asText());
-        fieldsMap.put("reporter", fields.path("reporter").path("displayName").asText());
-        fieldsMap.put("created", fields.path("created").asText());
-        fieldsMap.put("updated", fields.path("updated").asText());
-        
-        result.put("fields", fieldsMap);
-        result.put("success", true);
-        return result;
-    }
-
-    private Map<String, Object> convertSearchResults(JsonNode node) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("total", node.path("total").asInt());
-        result.put("startAt", node.path("startAt").asInt());
-        result.put("maxResults", node.path("maxResults").asInt());
-        
-        var issues = new java.util.ArrayList<Map<String, Object>>();
-        node.path("issues").forEach(issue -> issues.add(convertToSimplified(issue)));
-        
-        result.put("issues", issues);
-        result.put("success", true);
-        return result;
-    }
 }
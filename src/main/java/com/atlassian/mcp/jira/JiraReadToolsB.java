@@ -1,9 +1,8 @@
 package com.atlassian.mcp.jira;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.atlassian.mcp.http.FailFastErrors;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -40,7 +39,7 @@ public class JiraReadToolsB {
                     )));
                     return Map.<String, Object>of("success", true, "linkTypes", linkTypes);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -61,9 +60,9 @@ public class JiraReadToolsB {
         }
         
         String jql = "project=" + projectKey;
-        return getClient().searchIssues(jql, "summary,status,assignee", startAt, limit, null)
-                .map(this::convertSearchResults)
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+        return JiraSearchResults.collect(getClient().streamSearchIssues(jql, "summary,status,assignee", startAt, limit, null,
+                        JiraSearchResults.SIMPLIFIED_PATHS))
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -79,7 +78,7 @@ public class JiraReadToolsB {
         }
         return getClient().getProjectVersions(projectKey)
                 .map(versions -> Map.<String, Object>of("success", true, "versions", versions))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -102,9 +101,9 @@ public class JiraReadToolsB {
             return Mono.error(new IllegalArgumentException("sprint_id is required"));
         }
         
-        return getClient().getSprintIssues(sprintId, fields, startAt, limit)
-                .map(this::convertSearchResults)
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+        return JiraSearchResults.collect(getClient().streamSprintIssues(sprintId, fields, startAt, limit,
+                        JiraSearchResults.SIMPLIFIED_PATHS))
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -137,7 +136,7 @@ public class JiraReadToolsB {
                     )));
                     return Map.<String, Object>of("success", true, "sprints", sprints);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -161,40 +160,6 @@ public class JiraReadToolsB {
                     )));
                     return Map.<String, Object>of("success", true, "transitions", transitions);
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
-    }
-
-    // Helper methods
-    private Map<String, Object> convertToSimplified(JsonNode node) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("key", node.path("key").asText());
-        result.put("id", node.path("id").asText());
-        
-        JsonNode fields = node.path("fields");
-        Map<String, Object> fieldsMap = new HashMap<>();
-        fieldsMap.put("summary", fields.path("summary").asText());
-        fieldsMap.put("status", fields.path("status").path("name").asText());
-        fieldsMap.put("assignee", fields.path("assignee").path("displayName").asText());
-        fieldsMap.put("reporter", fields.path("reporter").path("displayName").asText());
-        fieldsMap.put("created", fields.path("created").asText());
-        fieldsMap.put("updated", fields.path("updated").asText());
-        
-        result.put("fields", fieldsMap);
-        result.put("success", true);
-        return result;
-    }
-
-    private Map<String, Object> convertSearchResults(JsonNode node) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("total", node.path("total").asInt());
-        result.put("startAt", node.path("startAt").asInt());
-        result.put("maxResults", node.path("maxResults").asInt());
-        
-        var issues = new java.util.ArrayList<Map<String, Object>>();
-        node.path("issues").forEach(issue -> issues.add(convertToSimplified(issue)));
-        
-        result.put("issues", issues);
-        result.put("success", true);
-        return result;
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 }
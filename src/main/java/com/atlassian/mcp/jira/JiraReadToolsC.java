@@ -1,8 +1,10 @@
 package com.atlassian.mcp.jira;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.atlassian.mcp.core.McpProgress;
+import com.atlassian.mcp.http.FailFastErrors;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -12,10 +14,25 @@ import java.util.function.Supplier;
  * getUserProfile, getWorklog, search, searchFields
  */
 public class JiraReadToolsC {
+    /** fetch_all 로 한 번에 가져올 수 있는 최대 이슈 수. */
+    static final int MAX_FETCH_ALL = 5000;
+
+    /** 필드 목록 캐시 기본 유지 시간. */
+    static final Duration DEFAULT_FIELD_CACHE_TTL = Duration.ofHours(1);
+
     private final Supplier<JiraClient> clientSupplier;
+    private final JiraFieldCatalog fieldCatalog;
 
     public JiraReadToolsC(Supplier<JiraClient> clientSupplier) {
+        this(clientSupplier, DEFAULT_FIELD_CACHE_TTL);
+    }
+
+    /**
+     * @param fieldCacheTtl jira_search_fields 가 필드 목록을 다시 받지 않고 쓰는 시간
+     */
+    public JiraReadToolsC(Supplier<JiraClient> clientSupplier, Duration fieldCacheTtl) {
         this.clientSupplier = clientSupplier;
+        this.fieldCatalog = new JiraFieldCatalog(fieldCacheTtl);
     }
     
     private JiraClient getClient() {
@@ -42,7 +59,7 @@ public class JiraReadToolsC {
                     result.put("emailAddress", node.path("emailAddress").asText());
                     return result;
                 })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -61,7 +78,7 @@ public class JiraReadToolsC {
                         "success", true,
                         "worklogs", node.path("worklogs")
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -74,6 +91,8 @@ public class JiraReadToolsC {
      * - start_at (integer, default: 0): Starting index for pagination
      * - projects_filter (string, optional): Comma-separated project keys
      * - expand (string, optional): Fields to expand (renderedFields, transitions, changelog)
+     * - fetch_all (boolean, default: false): Fetch every matching issue across pages (limit/start_at ignored)
+     * - max_issues (integer, default: 1000): Cap for fetch_all (at most 5000)
      */
     public Mono<Map<String, Object>> search(Map<String, Object> params) {
         String jql = (String) params.get("jql");
@@ -86,9 +105,28 @@ public class JiraReadToolsC {
             return Mono.error(new IllegalArgumentException("jql is required"));
         }
 
-        return getClient().searchIssues(jql, fields, startAt, limit, expand)
-                .map(this::convertSearchResults)
-                .onErrorResume(e -> Mono.just(Map.of(
+        if (Boolean.TRUE.equals(params.get("fetch_all"))) {
+            long requested = ((Number) params.getOrDefault("max_issues", 1000)).longValue();
+            if (requested <= 0) {
+                return Mono.error(new IllegalArgumentException("max_issues must be positive"));
+            }
+            int maxIssues = (int) Math.min(MAX_FETCH_ALL, requested);
+            // 한 건 더 받아 보고 넘치면 capped — total 이 딱 maxIssues 인 결과는 잘린 것이 아니다
+            return getClient().searchAll(jql, fields, expand, maxIssues + 1)
+                    .transform(issues -> McpProgress.track(issues, -1, issue -> issue.path("key").asText()))
+                    .map(JiraSearchResults::simplify)
+                    .collectList()
+                    .map(issues -> JiraSearchResults.all(issues, maxIssues))
+                    .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of(
+                            "success", false,
+                            "error", e.getMessage(),
+                            "jql", jql
+                    )));
+        }
+
+        return JiraSearchResults.collect(getClient().streamSearchIssues(jql, fields, startAt, limit, expand,
+                        JiraSearchResults.SIMPLIFIED_PATHS))
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of(
                         "success", false,
                         "error", e.getMessage(),
                         "jql", jql
@@ -106,60 +144,14 @@ public class JiraReadToolsC {
     public Mono<Map<String, Object>> searchFields(Map<String, Object> params) {
         String keyword = (String) params.getOrDefault("keyword", "");
         int limit = (int) params.getOrDefault("limit", 10);
-        
-        return getClient().getFields()
-                .map(fields -> {
-                    var results = new java.util.ArrayList<Map<String, Object>>();
-                    fields.forEach(field -> {
-                        String name = field.path("name").asText().toLowerCase();
-                        String id = field.path("id").asText().toLowerCase();
-                        if (keyword.isBlank() || name.contains(keyword.toLowerCase()) || id.contains(keyword.toLowerCase())) {
-                            results.add(Map.of(
-                                    "id", field.path("id").asText(),
-                                    "name", field.path("name").asText(),
-                                    "custom", field.path("custom").asBoolean()
-                            ));
-                        }
-                    });
-                    return Map.<String, Object>of(
-                            "success", true,
-                            "fields", results.stream().limit(limit).toList()
-                    );
-                })
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
-    }
+        boolean refresh = Boolean.TRUE.equals(params.get("refresh"));
 
-    // Helper methods
-    private Map<String, Object> convertToSimplified(JsonNode node) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("key", node.path("key").asText());
-        result.put("id", node.path("id").asText());
-        
-        JsonNode fields = node.path("fields");
-        Map<String, Object> fieldsMap = new HashMap<>();
-        fieldsMap.put("summary", fields.path("summary").asText());
-        fieldsMap.put("status", fields.path("status").path("name").asText());
-        fieldsMap.put("assignee", fields.path("assignee").path("displayName").asText());
-        fieldsMap.put("reporter", fields.path("reporter").path("displayName").asText());
-        fieldsMap.put("created", fields.path("created").asText());
-        fieldsMap.put("updated", fields.path("updated").asText());
-        
-        result.put("fields", fieldsMap);
-        result.put("success", true);
-        return result;
-    }
-
-    private Map<String, Object> convertSearchResults(JsonNode node) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("total", node.path("total").asInt());
-        result.put("startAt", node.path("startAt").asInt());
-        result.put("maxResults", node.path("maxResults").asInt());
-        
-        var issues = new java.util.ArrayList<Map<String, Object>>();
-        node.path("issues").forEach(issue -> issues.add(convertToSimplified(issue)));
-        
-        result.put("issues", issues);
-        result.put("success", true);
-        return result;
+        JiraClient client = getClient();
+        return fieldCatalog.get(client::getFields, refresh)
+                .map(index -> Map.<String, Object>of(
+                        "success", true,
+                        "fields", index.search(keyword, limit).stream().map(JiraFieldIndex.Field::toMap).toList()
+                ))
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 }
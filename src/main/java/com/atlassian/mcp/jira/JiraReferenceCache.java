@@ -0,0 +1,188 @@
+package com.atlassian.mcp.jira;
+
+import com.atlassian.mcp.auth.TokenFingerprint;
+import com.atlassian.mcp.cache.TtlCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 자주 바뀌지 않는 Jira 참조 데이터(프로젝트, 링크 유형, 보드, 버전, 보드 스프린트) 캐시 (atlassian.jira.referenceCache.*).
+ *
+ * 같은 데이터라도 사용자 권한에 따라 보이는 범위가 다르므로 베이스 URL 과 토큰 지문({@link TokenFingerprint})별로 따로 둔다.
+ * 유형별 ttl 동안은 그대로 쓰고, ttl 이 지난 뒤 staleWhileRevalidate 동안은 이전 값을 바로 돌려주면서 백그라운드에서 다시 받는다.
+ * 그보다 오래되면 다시 받을 때까지 기다린다. 우리 쓰기 도구가 데이터를 바꾸면(createVersion, createSprint, updateSprint)
+ * 해당 항목을 모든 토큰 범위에서 지운다. ttl 이 0 인 유형은 캐시하지 않는다.
+ */
+@Component
+public class JiraReferenceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraReferenceCache.class);
+
+    public enum Type {
+        PROJECTS, LINK_TYPES, BOARDS, VERSIONS, SPRINTS
+    }
+
+    private record Key(String tenant, String scope, Type type, String args) {
+    }
+
+    private record Entry(JsonNode value, long loadedAt) {
+    }
+
+    private final boolean enabled;
+    private final Map<Type, Long> ttlNanos = new EnumMap<>(Type.class);
+    private final long staleNanos;
+    private final LongSupplier nanoClock;
+    private final TtlCache<Key, Entry> entries;
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    // 무효화 이전에 시작한 조회 결과가 무효화 뒤에 저장되지 않도록
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+
+    @Autowired
+    public JiraReferenceCache(
+            @Value("${atlassian.jira.referenceCache.enabled:true}") boolean enabled,
+            @Value("${atlassian.jira.referenceCache.maxEntries:5000}") int maxEntries,
+            @Value("${atlassian.jira.referenceCache.ttl.projects:10m}") Duration projects,
+            @Value("${atlassian.jira.referenceCache.ttl.linkTypes:1h}") Duration linkTypes,
+            @Value("${atlassian.jira.referenceCache.ttl.boards:10m}") Duration boards,
+            @Value("${atlassian.jira.referenceCache.ttl.versions:5m}") Duration versions,
+            @Value("${atlassian.jira.referenceCache.ttl.sprints:1m}") Duration sprints,
+            @Value("${atlassian.jira.referenceCache.staleWhileRevalidate:1h}") Duration staleWhileRevalidate) {
+        this(enabled, maxEntries, Map.of(Type.PROJECTS, projects, Type.LINK_TYPES, linkTypes, Type.BOARDS, boards,
+                Type.VERSIONS, versions, Type.SPRINTS, sprints), staleWhileRevalidate, System::nanoTime);
+    }
+
+    /**
+     * @param ttls 유형별 유지 시간 (없는 유형은 캐시하지 않음)
+     * @param nanoClock 테스트용 시계
+     */
+    JiraReferenceCache(boolean enabled, int maxEntries, Map<Type, Duration> ttls, Duration staleWhileRevalidate,
+                       LongSupplier nanoClock) {
+        this.enabled = enabled;
+        ttls.forEach((type, ttl) -> ttlNanos.put(type, ttl.toNanos()));
+        this.staleNanos = staleWhileRevalidate.toNanos();
+        this.nanoClock = nanoClock;
+        long longest = ttlNanos.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        this.entries = new TtlCache<>("jira-reference-data", maxEntries,
+                Duration.ofNanos(Math.max(1, longest + staleNanos)), nanoClock);
+    }
+
+    /**
+     * 토큰 하나의 권한 범위에 묶인 캐시.
+     */
+    public Scope scope(String tenant, String token) {
+        return new Scope(this, tenant, TokenFingerprint.of(tenant, token));
+    }
+
+    public TtlCache.Stats stats() {
+        return entries.stats();
+    }
+
+    /**
+     * ttl 이 지난 값을 돌려주고 백그라운드에서 다시 받은 횟수.
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    private Mono<JsonNode> get(Key key, Supplier<Mono<JsonNode>> loader) {
+        long ttl = ttlNanos.getOrDefault(key.type(), 0L);
+        if (!enabled || ttl <= 0) {
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            Entry entry = entries.get(key);
+            long age = entry == null ? Long.MAX_VALUE : nanoClock.getAsLong() - entry.loadedAt();
+            if (age < ttl) {
+                return Mono.just(entry.value());
+            }
+            if (age - ttl < staleNanos) {
+                staleHits.incrementAndGet();
+                refresh(key, loader);
+                return Mono.just(entry.value());
+            }
+            return load(key, loader);
+        });
+    }
+
+    private Mono<JsonNode> load(Key key, Supplier<Mono<JsonNode>> loader) {
+        long started = generation.get();
+        return loader.get().doOnNext(value -> {
+            if (generation.get() == started) {
+                entries.put(key, new Entry(value, nanoClock.getAsLong()));
+            }
+        });
+    }
+
+    private void refresh(Key key, Supplier<Mono<JsonNode>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        load(key, loader)
+                .doFinally(signal -> refreshing.remove(key))
+                .subscribe(value -> log.debug("Refreshed Jira {} for {}", key.type(), key.tenant()),
+                        e -> log.debug("Could not refresh Jira {} for {}; keeping stale value: {}",
+                                key.type(), key.tenant(), e.getMessage()));
+    }
+
+    private void invalidate(String tenant, Type type, String args) {
+        generation.incrementAndGet();
+        int removed = entries.invalidateIf(key -> key.tenant().equals(tenant) && key.type() == type
+                && (args == null || key.args().equals(args) || key.args().startsWith(args + "|")));
+        log.debug("Invalidated {} cached Jira {} entries for {}", removed, type, tenant);
+    }
+
+    /**
+     * 요청별 JiraClient 가 쓰는 캐시 view. {@link #none()} 은 캐시 없이 항상 조회한다.
+     */
+    public static final class Scope {
+
+        private static final Scope NONE = new Scope(null, null, null);
+
+        private final JiraReferenceCache cache;
+        private final String tenant;
+        private final String scope;
+
+        private Scope(JiraReferenceCache cache, String tenant, String scope) {
+            this.cache = cache;
+            this.tenant = tenant;
+            this.scope = scope;
+        }
+
+        public static Scope none() {
+            return NONE;
+        }
+
+        /**
+         * @param args 조회 조건. 같은 유형 안에서 캐시 키가 되며 '|' 로 구분한 첫 값이 무효화 단위다 (예: 보드 id)
+         */
+        public Mono<JsonNode> get(Type type, String args, Supplier<Mono<JsonNode>> loader) {
+            return cache == null ? loader.get() : cache.get(new Key(tenant, scope, type, args), loader);
+        }
+
+        /**
+         * 모든 토큰 범위에서 해당 유형의 항목을 지운다.
+         *
+         * @param args 지울 조회 조건 또는 그 첫 값. null 이면 유형 전체
+         */
+        public void invalidate(Type type, String args) {
+            if (cache != null) {
+                cache.invalidate(tenant, type, args);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JQL 검색 결과 전체를 페이지를 넘기며 가져온다 ({@link JiraClient#searchAll}).
+ *
+ * 오프셋 검색(/rest/api/2/search)은 첫 페이지로 total 을 알고 나면 남은 페이지를 최대 {@link #PREFETCH} 개까지
+ * 동시에 요청하되 순서는 유지한다. 오프셋 검색이 제거된 인스턴스(410 Gone)에서는 nextPageToken 검색으로 넘어가
+ * 한 페이지씩 따라간다. 어느 쪽이든 maxIssues 건에서 멈추고 남은 요청은 취소된다.
+ */
+final class JiraSearchPager {
+
+    /** 페이지당 요청 크기. Jira 가 더 작게 제한하면 첫 응답의 maxResults 를 따른다. */
+    static final int PAGE_SIZE = 100;
+
+    /** 동시에 가져올 최대 페이지 수. */
+    static final int PREFETCH = 4;
+
+    private JiraSearchPager() {
+    }
+
+    static Flux<JsonNode> searchAll(JiraClient client, String jql, String fields, String expand, int maxIssues) {
+        if (maxIssues <= 0) {
+            return Flux.empty();
+        }
+        int pageSize = Math.min(PAGE_SIZE, maxIssues);
+        return client.searchIssues(jql, fields, 0, pageSize, expand)
+                .map(Optional::of)
+                .onErrorResume(JiraSearchPager::offsetSearchRemoved, e -> Mono.just(Optional.empty()))
+                .flatMapMany(first -> first.isPresent()
+                        ? byOffset(client, first.get(), jql, fields, expand, maxIssues)
+                        : byToken(client, jql, fields, expand, pageSize))
+                .take(maxIssues);
+    }
+
+    private static Flux<JsonNode> byOffset(JiraClient client, JsonNode first, String jql, String fields, String expand,
+                                           int maxIssues) {
+        int pageSize = Math.max(1, first.path("maxResults").asInt(PAGE_SIZE));
+        int end = Math.min(first.path("total").asInt(), maxIssues);
+        List<Integer> starts = new ArrayList<>();
+        for (int start = pageSize; start < end; start += pageSize) {
+            starts.add(start);
+        }
+        Flux<JsonNode> rest = Flux.fromIterable(starts)
+                .flatMapSequential(start -> client.searchIssues(jql, fields, start, Math.min(pageSize, end - start),
+                        expand), PREFETCH);
+        return Flux.concat(Mono.just(first), rest).concatMapIterable(JiraSearchPager::issues);
+    }
+
+    private static Flux<JsonNode> byToken(JiraClient client, String jql, String fields, String expand, int pageSize) {
+        return client.searchJql(jql, fields, null, pageSize, expand)
+                .expand(page -> {
+                    String next = page.path("nextPageToken").asText(null);
+                    if (next == null || page.path("isLast").asBoolean(false)) {
+                        return Mono.empty();
+                    }
+                    return client.searchJql(jql, fields, next, pageSize, expand);
+                })
+                .concatMapIterable(JiraSearchPager::issues);
+    }
+
+    private static List<JsonNode> issues(JsonNode page) {
+        List<JsonNode> issues = new ArrayList<>();
+        page.path("issues").forEach(issues::add);
+        return issues;
+    }
+
+    private static boolean offsetSearchRemoved(Throwable error) {
+        return error instanceof WebClientResponseException response && response.getStatusCode().value() == 410;
+    }
+}
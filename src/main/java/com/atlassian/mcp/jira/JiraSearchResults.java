@@ -0,0 +1,91 @@
+package com.atlassian.mcp.jira;
+
+import com.atlassian.mcp.http.JsonStreamDecoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이슈 검색 결과(search, board/sprint issues)를 도구 응답 형태로 변환.
+ * 스트리밍 디코딩된 이슈를 도착하는 대로 간략화하므로 응답 전체를 메모리에 올리지 않는다.
+ */
+final class JiraSearchResults {
+
+    /** 간략화된 이슈에 필요한 경로. 스트리밍 디코딩 시 나머지 필드는 읽는 즉시 버린다. */
+    static final Set<String> SIMPLIFIED_PATHS = Set.of(
+            "key", "id",
+            "fields.summary", "fields.status.name", "fields.assignee.displayName",
+            "fields.reporter.displayName", "fields.created", "fields.updated");
+
+    private JiraSearchResults() {
+    }
+
+    static Map<String, Object> simplify(JsonNode node) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("key", node.path("key").asText());
+        result.put("id", node.path("id").asText());
+
+        JsonNode fields = node.path("fields");
+        Map<String, Object> fieldsMap = new HashMap<>();
+        fieldsMap.put("summary", fields.path("summary").asText());
+        fieldsMap.put("status", fields.path("status").path("name").asText());
+        fieldsMap.put("assignee", fields.path("assignee").path("displayName").asText());
+        fieldsMap.put("reporter", fields.path("reporter").path("displayName").asText());
+        fieldsMap.put("created", fields.path("created").asText());
+        fieldsMap.put("updated", fields.path("updated").asText());
+
+        result.put("fields", fieldsMap);
+        result.put("success", true);
+        return result;
+    }
+
+    /**
+     * 스트리밍 검색 결과를 total/startAt/maxResults/issues 응답으로 모은다.
+     */
+    static Mono<Map<String, Object>> collect(Flux<JsonStreamDecoder.Part> parts) {
+        return parts.reduceWith(Accumulator::new, Accumulator::add).map(Accumulator::toResult);
+    }
+
+    /**
+     * 전체 페이지 조회(fetch_all) 결과. issues 는 maxIssues 보다 한 건 더 받아 온 것이고,
+     * 넘친 경우에만 maxIssues 로 자르고 capped 를 표시한다.
+     */
+    static Map<String, Object> all(List<Map<String, Object>> issues, int maxIssues) {
+        boolean capped = issues.size() > maxIssues;
+        List<Map<String, Object>> kept = capped ? issues.subList(0, maxIssues) : issues;
+        Map<String, Object> result = new HashMap<>();
+        result.put("total", kept.size());
+        result.put("startAt", 0);
+        result.put("maxResults", maxIssues);
+        result.put("capped", capped);
+        result.put("issues", kept);
+        result.put("success", true);
+        return result;
+    }
+
+    private static final class Accumulator {
+        private final Map<String, Object> result = new HashMap<>(Map.of("total", 0, "startAt", 0, "maxResults", 0));
+        private final List<Map<String, Object>> issues = new ArrayList<>();
+
+        Accumulator add(JsonStreamDecoder.Part part) {
+            if (part.element()) {
+                issues.add(simplify(part.value()));
+            } else if (result.containsKey(part.field())) {
+                result.put(part.field(), part.value().asInt());
+            }
+            return this;
+        }
+
+        Map<String, Object> toResult() {
+            result.put("issues", issues);
+            result.put("success", true);
+            return result;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.atlassian.mcp.jira;
 
+import com.atlassian.mcp.core.McpProgress;
+import com.atlassian.mcp.http.FailFastErrors;
 import com.fasterxml.jackson.databind.JsonNode;
 import reactor.core.publisher.Mono;
 
@@ -47,7 +49,7 @@ public class JiraWriteTools {
                         "success", true,
                         "id", node.path("id").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -88,7 +90,7 @@ public class JiraWriteTools {
                         "success", true,
                         "id", node.path("id").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -134,7 +136,7 @@ public class JiraWriteTools {
                                 "issues", createdIssues
                         );
                     })
-                    .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                    .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
         } catch (Exception e) {
             return Mono.just(Map.of("success", false, "error", "Invalid JSON format for issues: " + e.getMessage()));
         }
@@ -176,12 +178,13 @@ public class JiraWriteTools {
                         versionParams.put("project_key", projectKey);
                         return createVersion(versionParams);
                     })
+                    .transform(created -> McpProgress.track(created, versions.size()))
                     .collectList()
                     .map(results -> Map.<String, Object>of(
                             "success", true,
                             "versions", results
                     ))
-                    .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                    .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
         } catch (Exception e) {
             return Mono.just(Map.of("success", false, "error", "Invalid JSON format for versions: " + e.getMessage()));
         }
@@ -243,7 +246,7 @@ public class JiraWriteTools {
                         "key", node.path("key").asText(),
                         "id", node.path("id").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -273,7 +276,7 @@ public class JiraWriteTools {
         
         return getClient().createIssueLink(linkData)
                 .then(Mono.just(Map.<String, Object>of("success", true, "message", "Link created")))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -305,7 +308,7 @@ public class JiraWriteTools {
                         "success", true,
                         "id", node.path("id").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -342,7 +345,7 @@ public class JiraWriteTools {
                         "id", node.path("id").asText(),
                         "name", node.path("name").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -378,7 +381,7 @@ public class JiraWriteTools {
                         "id", node.path("id").asText(),
                         "name", node.path("name").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -397,7 +400,7 @@ public class JiraWriteTools {
                         "success", true,
                         "message", "Issue " + issueKey + " deleted successfully"
                 )))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -417,7 +420,7 @@ public class JiraWriteTools {
         
         return getClient().linkToEpic(issueKey, epicKey)
                 .map(this::convertToSimplified)
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -436,7 +439,7 @@ public class JiraWriteTools {
                         "success", true,
                         "message", "Link removed successfully"
                 )))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -481,7 +484,7 @@ public class JiraWriteTools {
         
         return getClient().transitionIssue(issueKey, transitionData)
                 .map(this::convertToSimplified)
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -507,7 +510,7 @@ public class JiraWriteTools {
         
         return getClient().updateIssue(issueKey, fields)
                 .map(this::convertToSimplified)
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     /**
@@ -547,7 +550,7 @@ public class JiraWriteTools {
                         "name", node.path("name").asText(),
                         "state", node.path("state").asText()
                 ))
-                .onErrorResume(e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
+                .onErrorResume(FailFastErrors::isToolFailure, e -> Mono.just(Map.of("success", false, "error", e.getMessage())));
     }
 
     // Helper method
@@ -7,9 +7,11 @@ import com.atlassian.mcp.jira.JiraReadToolsA;
 import com.atlassian.mcp.jira.JiraReadToolsB;
 import com.atlassian.mcp.jira.JiraReadToolsC;
 import com.atlassian.mcp.jira.JiraWriteTools;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -37,8 +39,8 @@ public class Config {
     }
     
     @Bean
-    public JiraReadToolsC jiraReadToolsC() {
-        return new JiraReadToolsC(clientFactory::createJiraClient);
+    public JiraReadToolsC jiraReadToolsC(@Value("${atlassian.jira.fieldCacheTtl:1h}") Duration fieldCacheTtl) {
+        return new JiraReadToolsC(clientFactory::createJiraClient, fieldCacheTtl);
     }
     
     @Bean
@@ -11,7 +11,7 @@ import java.util.Map;
 public class ConfluenceToolsConfig {
     
     public static void configure(ToolRegistry reg, ConfluenceTools confluenceTools) {
-        reg.register(
+        reg.registerAsync(
             "confluence_search",
             "Search Confluence content using simple terms or CQL.",
             Map.of(
@@ -23,9 +23,9 @@ public class ConfluenceToolsConfig {
                 ),
                 "required", java.util.List.of("query")
             ),
-            params -> confluenceTools.search(asMap(params)).toFuture().join()
+            params -> confluenceTools.search(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_get_page",
             "Get content of a specific Confluence page by its ID, or by its title and space key.",
             Map.of(
@@ -38,9 +38,9 @@ public class ConfluenceToolsConfig {
                     "convert_to_markdown", Map.of("type", "boolean", "description", "Convert to markdown", "default", true)
                 )
             ),
-            params -> confluenceTools.getPage(asMap(params)).toFuture().join()
+            params -> confluenceTools.getPage(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_get_page_children",
             "Get child pages of a specific Confluence page.",
             Map.of(
@@ -51,9 +51,9 @@ public class ConfluenceToolsConfig {
                 ),
                 "required", java.util.List.of("parent_id")
             ),
-            params -> confluenceTools.getPageChildren(asMap(params)).toFuture().join()
+            params -> confluenceTools.getPageChildren(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_get_comments",
             "Get comments for a specific Confluence page.",
             Map.of(
@@ -64,9 +64,9 @@ public class ConfluenceToolsConfig {
                 ),
                 "required", java.util.List.of("page_id")
             ),
-            params -> confluenceTools.getComments(asMap(params)).toFuture().join()
+            params -> confluenceTools.getComments(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_get_labels",
             "Get labels for a specific Confluence page.",
             Map.of(
@@ -76,9 +76,9 @@ public class ConfluenceToolsConfig {
                 ),
                 "required", java.util.List.of("page_id")
             ),
-            params -> confluenceTools.getLabels(asMap(params)).toFuture().join()
+            params -> confluenceTools.getLabels(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_add_label",
             "Add label to an existing Confluence page.",
             Map.of(
@@ -90,9 +90,9 @@ public class ConfluenceToolsConfig {
                 "required", java.util.List.of("page_id", "name")
             ),
             false, // write operation
-            params -> confluenceTools.addLabel(asMap(params)).toFuture().join()
+            params -> confluenceTools.addLabel(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_create_page",
             "Create a new Confluence page.",
             Map.of(
@@ -108,9 +108,9 @@ public class ConfluenceToolsConfig {
                 "required", java.util.List.of("space_key", "title", "content")
             ),
             false, // write operation
-            params -> confluenceTools.createPage(asMap(params)).toFuture().join()
+            params -> confluenceTools.createPage(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_update_page",
             "Update an existing Confluence page.",
             Map.of(
@@ -128,9 +128,9 @@ public class ConfluenceToolsConfig {
                 "required", java.util.List.of("page_id", "title", "content")
             ),
             false, // write operation
-            params -> confluenceTools.updatePage(asMap(params)).toFuture().join()
+            params -> confluenceTools.updatePage(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_delete_page",
             "Delete an existing Confluence page.",
             Map.of(
@@ -141,9 +141,9 @@ public class ConfluenceToolsConfig {
                 "required", java.util.List.of("page_id")
             ),
             false, // write operation
-            params -> confluenceTools.deletePage(asMap(params)).toFuture().join()
+            params -> confluenceTools.deletePage(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_add_comment",
             "Add a comment to a Confluence page.",
             Map.of(
@@ -155,9 +155,9 @@ public class ConfluenceToolsConfig {
                 "required", java.util.List.of("page_id", "content")
             ),
             false, // write operation
-            params -> confluenceTools.addComment(asMap(params)).toFuture().join()
+            params -> confluenceTools.addComment(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "confluence_search_user",
             "Search Confluence users using CQL.",
             Map.of(
@@ -168,7 +168,7 @@ public class ConfluenceToolsConfig {
                 ),
                 "required", java.util.List.of("query")
             ),
-            params -> confluenceTools.searchUser(asMap(params)).toFuture().join()
+            params -> confluenceTools.searchUser(asMap(params))
         );
     }
     
@@ -19,7 +19,7 @@ public class JiraToolsConfig {
                                  JiraReadToolsC readToolsC,
                                  JiraWriteTools writeTools) {
         // Jira 읽기 도구 - Group C (S-Z)
-        reg.register(
+        reg.registerAsync(
             "jira_get_user_profile",
             "Retrieve profile information for a specific Jira user.",
             Map.of(
@@ -29,9 +29,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("user_identifier")
             ),
-            params -> readToolsC.getUserProfile(asMap(params)).toFuture().join()
+            params -> readToolsC.getUserProfile(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_issue",
             "Get details of a specific Jira issue including its Epic links and relationship information.",
             Map.of(
@@ -46,9 +46,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("issue_key")
             ),
-            params -> readToolsA.getIssue(asMap(params)).toFuture().join()
+            params -> readToolsA.getIssue(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_search",
             "Search Jira issues using JQL (Jira Query Language).",
             Map.of(
@@ -59,13 +59,15 @@ public class JiraToolsConfig {
                     "limit", Map.of("type", "integer", "description", "Maximum number of results (1-50)", "default", 10),
                     "start_at", Map.of("type", "integer", "description", "Starting index for pagination", "default", 0),
                     "projects_filter", Map.of("type", "string", "description", "Comma-separated project keys to filter"),
-                    "expand", Map.of("type", "string", "description", "Fields to expand")
+                    "expand", Map.of("type", "string", "description", "Fields to expand"),
+                    "fetch_all", Map.of("type", "boolean", "description", "Fetch every matching issue across pages (limit and start_at are ignored)", "default", false),
+                    "max_issues", Map.of("type", "integer", "description", "Maximum issues to return with fetch_all (1-5000)", "default", 1000)
                 ),
                 "required", java.util.List.of("jql")
             ),
-            params -> readToolsC.search(asMap(params)).toFuture().join()
+            params -> readToolsC.search(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_search_fields",
             "Search Jira fields by keyword with fuzzy match.",
             Map.of(
@@ -76,9 +78,9 @@ public class JiraToolsConfig {
                     "refresh", Map.of("type", "boolean", "description", "Whether to force refresh the field list", "default", false)
                 )
             ),
-            params -> readToolsC.searchFields(asMap(params)).toFuture().join()
+            params -> readToolsC.searchFields(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_project_issues",
             "Get all issues for a specific Jira project.",
             Map.of(
@@ -90,9 +92,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("project_key")
             ),
-            params -> readToolsB.getProjectIssues(asMap(params)).toFuture().join()
+            params -> readToolsB.getProjectIssues(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_transitions",
             "Get available status transitions for a Jira issue.",
             Map.of(
@@ -102,9 +104,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("issue_key")
             ),
-            params -> readToolsB.getTransitions(asMap(params)).toFuture().join()
+            params -> readToolsB.getTransitions(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_worklog",
             "Get worklog entries for a Jira issue.",
             Map.of(
@@ -114,9 +116,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("issue_key")
             ),
-            params -> readToolsC.getWorklog(asMap(params)).toFuture().join()
+            params -> readToolsC.getWorklog(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_download_attachments",
             "Download attachments from a Jira issue.",
             Map.of(
@@ -127,9 +129,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("issue_key", "target_dir")
             ),
-            params -> readToolsA.downloadAttachments(asMap(params)).toFuture().join()
+            params -> readToolsA.downloadAttachments(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_agile_boards",
             "Get jira agile boards by name, project key, or type.",
             Map.of(
@@ -142,9 +144,9 @@ public class JiraToolsConfig {
                     "limit", Map.of("type", "integer", "description", "Maximum number of results", "default", 50)
                 )
             ),
-            params -> readToolsA.getAgileBoards(asMap(params)).toFuture().join()
+            params -> readToolsA.getAgileBoards(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_board_issues",
             "Get all issues linked to a specific board filtered by JQL.",
             Map.of(
@@ -156,9 +158,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("board_id")
             ),
-            params -> readToolsA.getBoardIssues(asMap(params)).toFuture().join()
+            params -> readToolsA.getBoardIssues(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_sprints_from_board",
             "Get jira sprints from board by state.",
             Map.of(
@@ -171,9 +173,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("board_id")
             ),
-            params -> readToolsB.getSprintsFromBoard(asMap(params)).toFuture().join()
+            params -> readToolsB.getSprintsFromBoard(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_sprint_issues",
             "Get jira issues from sprint.",
             Map.of(
@@ -185,15 +187,15 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("sprint_id")
             ),
-            params -> readToolsB.getSprintIssues(asMap(params)).toFuture().join()
+            params -> readToolsB.getSprintIssues(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_link_types",
             "Get all available issue link types.",
             Map.of("type", "object", "properties", Map.of()),
-            params -> readToolsB.getLinkTypes(asMap(params)).toFuture().join()
+            params -> readToolsB.getLinkTypes(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_project_versions",
             "Get all fix versions for a specific Jira project.",
             Map.of(
@@ -203,17 +205,17 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("project_key")
             ),
-            params -> readToolsB.getProjectVersions(asMap(params)).toFuture().join()
+            params -> readToolsB.getProjectVersions(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_get_all_projects",
             "Get all Jira projects accessible to the current user. Project keys are always returned in uppercase. If JIRA_PROJECTS_FILTER is configured, only returns projects matching those keys.",
             Map.of("type", "object", "properties", Map.of()),
-            params -> readToolsA.getAllProjects(asMap(params)).toFuture().join()
+            params -> readToolsA.getAllProjects(asMap(params))
         );
         
         // Jira 쓰기 도구
-        reg.register(
+        reg.registerAsync(
             "jira_create_issue",
             "Create a new Jira issue with optional Epic link or parent for subtasks.",
             Map.of(
@@ -230,9 +232,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("project_key", "summary", "issue_type")
             ),
             false,
-            params -> writeTools.createIssue(asMap(params)).toFuture().join()
+            params -> writeTools.createIssue(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_batch_create_issues",
             "Create multiple Jira issues in a batch.",
             Map.of(
@@ -251,9 +253,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issues")
             ),
             false,
-            params -> writeTools.batchCreateIssues(asMap(params)).toFuture().join()
+            params -> writeTools.batchCreateIssues(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_batch_get_changelogs",
             "Get changelogs for multiple Jira issues (Cloud only).",
             Map.of(
@@ -265,9 +267,9 @@ public class JiraToolsConfig {
                 ),
                 "required", java.util.List.of("issue_ids_or_keys")
             ),
-            params -> readToolsA.batchGetChangelogs(asMap(params)).toFuture().join()
+            params -> readToolsA.batchGetChangelogs(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_update_issue",
             "Update an existing Jira issue including changing status, adding Epic links, updating fields, etc.",
             Map.of(
@@ -281,9 +283,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key", "fields")
             ),
             false,
-            params -> writeTools.updateIssue(asMap(params)).toFuture().join()
+            params -> writeTools.updateIssue(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_delete_issue",
             "Delete an existing Jira issue.",
             Map.of(
@@ -294,9 +296,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key")
             ),
             false,
-            params -> writeTools.deleteIssue(asMap(params)).toFuture().join()
+            params -> writeTools.deleteIssue(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_add_comment",
             "Add a comment to a Jira issue.",
             Map.of(
@@ -308,9 +310,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key", "comment")
             ),
             false,
-            params -> writeTools.addComment(asMap(params)).toFuture().join()
+            params -> writeTools.addComment(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_add_worklog",
             "Add a worklog entry to a Jira issue.",
             Map.of(
@@ -326,9 +328,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key", "time_spent")
             ),
             false,
-            params -> writeTools.addWorklog(asMap(params)).toFuture().join()
+            params -> writeTools.addWorklog(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_link_to_epic",
             "Link an existing issue to an epic.",
             Map.of(
@@ -340,9 +342,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key", "epic_key")
             ),
             false,
-            params -> writeTools.linkToEpic(asMap(params)).toFuture().join()
+            params -> writeTools.linkToEpic(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_create_issue_link",
             "Create a link between two Jira issues.",
             Map.of(
@@ -355,9 +357,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("inward_issue_key", "outward_issue_key", "link_type")
             ),
             false,
-            params -> writeTools.createIssueLink(asMap(params)).toFuture().join()
+            params -> writeTools.createIssueLink(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_create_remote_issue_link",
             "Create a remote issue link (web link or Confluence link) for a Jira issue. This tool allows you to add web links and Confluence links to Jira issues. The links will appear in the issue's Links section and can be clicked to navigate to external resources.",
             Map.of(
@@ -371,9 +373,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key", "url")
             ),
             false,
-            params -> writeTools.createRemoteIssueLink(asMap(params)).toFuture().join()
+            params -> writeTools.createRemoteIssueLink(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_remove_issue_link",
             "Remove a link between two Jira issues.",
             Map.of(
@@ -384,9 +386,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("link_id")
             ),
             false,
-            params -> writeTools.removeIssueLink(asMap(params)).toFuture().join()
+            params -> writeTools.removeIssueLink(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_transition_issue",
             "Transition a Jira issue to a new status.",
             Map.of(
@@ -400,9 +402,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("issue_key", "transition_id")
             ),
             false,
-            params -> writeTools.transitionIssue(asMap(params)).toFuture().join()
+            params -> writeTools.transitionIssue(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_create_sprint",
             "Create Jira sprint for a board.",
             Map.of(
@@ -417,9 +419,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("board_id", "sprint_name", "start_date", "end_date")
             ),
             false,
-            params -> writeTools.createSprint(asMap(params)).toFuture().join()
+            params -> writeTools.createSprint(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_update_sprint",
             "Update jira sprint.",
             Map.of(
@@ -435,9 +437,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("sprint_id")
             ),
             false,
-            params -> writeTools.updateSprint(asMap(params)).toFuture().join()
+            params -> writeTools.updateSprint(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_create_version",
             "Create a new fix version in a Jira project.",
             Map.of(
@@ -452,9 +454,9 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("project_key", "name")
             ),
             false,
-            params -> writeTools.createVersion(asMap(params)).toFuture().join()
+            params -> writeTools.createVersion(asMap(params))
         );
-        reg.register(
+        reg.registerAsync(
             "jira_batch_create_versions",
             "Batch create multiple versions in a Jira project.",
             Map.of(
@@ -469,7 +471,7 @@ public class JiraToolsConfig {
                 "required", java.util.List.of("project_key", "versions")
             ),
             false,
-            params -> writeTools.batchCreateVersions(asMap(params)).toFuture().join()
+            params -> writeTools.batchCreateVersions(asMap(params))
         );
     }
     
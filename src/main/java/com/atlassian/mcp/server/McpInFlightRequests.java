@@ -0,0 +1,72 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.McpResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리 중인 JSON-RPC 요청 추적.
+ * 세션(또는 인증 사용자) + 요청 id 로 등록하고, notifications/cancelled 를 받으면 응답 Mono 구독을 끊어
+ * 진행 중인 Atlassian HTTP 호출까지 취소한다.
+ */
+@Slf4j
+@Component
+public class McpInFlightRequests {
+
+    private final Map<String, Sinks.Empty<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 취소 가능한 요청으로 등록. 취소되면 응답 없이 완료된다.
+     * scope 가 null 이면 notifications/cancelled 로 취소할 수 없다 (연결 종료 시 구독 해제로만 취소).
+     */
+    public Mono<McpResponse> track(String scope, Object requestId, Mono<McpResponse> response) {
+        if (scope == null || requestId == null) {
+            return response;
+        }
+        String key = key(scope, requestId);
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> cancel = Sinks.empty();
+            inFlight.put(key, cancel);
+            // doFinally 는 구독자가 결과를 받은 뒤에 실행되므로, 결과를 넘기기 전에 지운다
+            return response
+                .takeUntilOther(cancel.asMono())
+                .doOnEach(signal -> inFlight.remove(key, cancel))
+                .doOnCancel(() -> inFlight.remove(key, cancel));
+        });
+    }
+
+    /**
+     * notifications/cancelled 처리.
+     *
+     * @return 처리 중인 요청을 찾아 취소했으면 true
+     */
+    public boolean cancel(String scope, Object requestId, Object reason) {
+        if (scope == null || requestId == null) {
+            return false;
+        }
+        Sinks.Empty<Void> cancel = inFlight.remove(key(scope, requestId));
+        if (cancel == null) {
+            log.debug("Cancel requested for unknown or finished request {} ({})", requestId, scope);
+            return false;
+        }
+        log.info("Cancelling in-flight request {}: {}", requestId, reason != null ? reason : "no reason given");
+        cancel.tryEmitEmpty();
+        return true;
+    }
+
+    public int size() {
+        return inFlight.size();
+    }
+
+    private static String key(String scope, Object requestId) {
+        // JSON 숫자 id 는 Integer/Long 으로 역직렬화되므로 숫자 텍스트로 맞추고,
+        // 문자열 id 는 JSON 처럼 따옴표로 감싸 1 과 "1" 이 다른 요청으로 남게 한다
+        String id = requestId instanceof String text ? '"' + text + '"' : requestId.toString();
+        return scope + '\u0000' + id;
+    }
+}
@@ -0,0 +1,326 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.auth.JwtAuditLogger;
+import com.atlassian.mcp.core.JsonText;
+import com.atlassian.mcp.core.McpNotifier;
+import com.atlassian.mcp.core.McpProgress;
+import com.atlassian.mcp.core.McpRequest;
+import com.atlassian.mcp.core.McpResponse;
+import com.atlassian.mcp.core.ToolRegistry;
+import com.atlassian.mcp.http.FailFastErrors;
+import com.atlassian.mcp.http.RateLimitExceededException;
+import com.atlassian.mcp.http.UpstreamUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * MCP JSON-RPC 메소드 처리 (initialize, ping, tools/list, tools/call, 직접 도구 호출).
+ * 전송 방식(JSON / SSE / NDJSON)과 무관하게 요청 하나를 Mono 응답 하나로 변환한다.
+ */
+@Slf4j
+@Component
+public class McpRequestHandler {
+
+    static final String LATEST_PROTOCOL_VERSION = "2025-03-26";
+    private static final Set<String> SUPPORTED_PROTOCOL_VERSIONS = Set.of(LATEST_PROTOCOL_VERSION, "2024-11-05");
+    /** JSON-RPC 서버 오류 코드: 클라이언트 측 속도 제한으로 Atlassian 호출 없이 거절됨 */
+    static final int RATE_LIMITED = -32029;
+    /** JSON-RPC 서버 오류 코드: 업스트림 서킷 브레이커가 열렸거나 벌크헤드가 가득 참 */
+    static final int UPSTREAM_UNAVAILABLE = -32030;
+
+    private final ToolRegistry registry;
+    private final ToolListCache toolListCache;
+    private final McpInFlightRequests inFlightRequests;
+    private final ToolDispatcher toolDispatcher;
+    private final ObjectMapper mapper;
+    private final JwtAuditLogger auditLogger;
+    private final String securityMode;
+    private final int batchConcurrency;
+
+    public McpRequestHandler(
+            ToolRegistry registry,
+            ToolListCache toolListCache,
+            McpInFlightRequests inFlightRequests,
+            ToolDispatcher toolDispatcher,
+            ObjectMapper mapper,
+            @Autowired(required = false) JwtAuditLogger auditLogger,
+            @Value("${app.security.mode:none}") String securityMode,
+            @Value("${mcp.batch.maxConcurrency:8}") int batchConcurrency) {
+        this.registry = registry;
+        this.toolListCache = toolListCache;
+        this.inFlightRequests = inFlightRequests;
+        this.toolDispatcher = toolDispatcher;
+        this.mapper = mapper;
+        this.auditLogger = auditLogger;
+        this.securityMode = securityMode;
+        this.batchConcurrency = Math.max(1, batchConcurrency);
+    }
+
+    /**
+     * id가 있는 JSON-RPC 요청 처리.
+     * 도구 핸들러는 호출 스레드에서 실행되므로 요청 스레드에서 호출해야 한다.
+     * scope(세션 또는 사용자) 안에서 notifications/cancelled 로 취소되면 응답 없이 완료된다.
+     */
+    public Mono<McpResponse> handle(McpRequest request, String scope, HttpServletRequest httpRequest) {
+        return inFlightRequests.track(scope, request.getId(), dispatch(request, httpRequest));
+    }
+
+    private Mono<McpResponse> dispatch(McpRequest request, HttpServletRequest httpRequest) {
+        if (request.getMethod() == null) {
+            return Mono.just(McpResponse.error(request.getId(), -32600, "Invalid Request: method is required"));
+        }
+        try {
+            return switch (request.getMethod()) {
+                case "initialize" -> Mono.just(handleInitialize(request.getId(), request.getParams()));
+                case "initialized" -> Mono.just(handleInitialized(request.getId()));
+                case "ping" -> Mono.just(handlePing(request.getId()));
+                case "tools/list" -> Mono.just(handleToolsList(request.getId(), httpRequest));
+                case "tools/call" -> handleToolsCall(request.getId(), request.getParams(), httpRequest);
+                default -> handleDirectInvocation(request.getId(), request.getMethod(), request.getParams());
+            };
+        } catch (Exception e) {
+            log.error("Error handling MCP request", e);
+            return Mono.just(McpResponse.error(request.getId(), -32603,
+                "Internal error: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * JSON-RPC 배치 처리.
+     * 모든 요소의 응답 Mono를 호출 스레드에서 먼저 만든 뒤(요청 스코프 토큰 접근) 최대 batchConcurrency 개까지
+     * 동시에 구독한다. 응답은 요청 배열 순서대로 내보내며, 알림 요소와 취소된 요소는 응답이 없다.
+     */
+    public Flux<McpResponse> handleBatch(List<JsonNode> batch, String scope, HttpServletRequest httpRequest) {
+        List<Mono<McpResponse>> calls = new ArrayList<>(batch.size());
+        for (JsonNode element : batch) {
+            McpRequest request = parse(element);
+            if (request == null) {
+                calls.add(Mono.just(McpResponse.error(null, -32600, "Invalid Request")));
+            } else if (request.getId() == null) {
+                handleNotification(request, scope);
+            } else if ("initialize".equals(request.getMethod())) {
+                calls.add(Mono.just(McpResponse.error(request.getId(), -32600,
+                    "Invalid Request: initialize must not be part of a batch")));
+            } else {
+                calls.add(handle(request, scope, httpRequest));
+            }
+        }
+        return Flux.fromIterable(calls).flatMapSequential(Function.identity(), batchConcurrency);
+    }
+
+    /**
+     * JSON-RPC 요청 객체 변환. 객체가 아니거나 형식이 맞지 않으면 null.
+     */
+    public McpRequest parse(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        try {
+            return mapper.treeToValue(node, McpRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.debug("Invalid JSON-RPC request: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Handle notification (no response expected)
+     * notifications/cancelled: 같은 scope 에서 처리 중인 요청(params.requestId)을 취소
+     */
+    public void handleNotification(McpRequest notification, String scope) {
+        log.debug("Processing notification: {}", notification.getMethod());
+        if ("notifications/cancelled".equals(notification.getMethod()) && notification.getParams() != null) {
+            Map<String, Object> params = notification.getParams();
+            inFlightRequests.cancel(scope, params.get("requestId"), params.get("reason"));
+        }
+    }
+
+    /**
+     * Invoke a registered tool directly by method name (legacy request format)
+     */
+    private Mono<McpResponse> handleDirectInvocation(Object id, String method, Map<String, Object> params) {
+        try {
+            return toolDispatcher.invoke(method, params)
+                .map(result -> McpResponse.success(id, result))
+                .switchIfEmpty(Mono.fromSupplier(() -> McpResponse.success(id, null)))
+                .onErrorResume(e -> Mono.just(invocationError(id, method, e)));
+        } catch (Exception e) {
+            return Mono.just(invocationError(id, method, e));
+        }
+    }
+
+    private McpResponse invocationError(Object id, String method, Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            log.error("Invalid parameters: method={}, error={}", method, e.getMessage());
+            return McpResponse.error(id, -32602, "Invalid params: " + e.getMessage());
+        }
+        log.error("Tool invocation failed: method={}, error={}", method, e.getMessage());
+        return McpResponse.error(id, -32603, "Internal error: " + e.getMessage());
+    }
+
+    /**
+     * Handle initialized notification
+     */
+    private McpResponse handleInitialized(Object id) {
+        log.debug("Client initialized successfully");
+        return McpResponse.success(id, Map.of());
+    }
+
+    /**
+     * Handle ping request
+     */
+    private McpResponse handlePing(Object id) {
+        log.debug("Client ping request");
+        return McpResponse.success(id, Map.of());
+    }
+
+    /**
+     * Handle initialize request
+     * 클라이언트가 요청한 프로토콜 버전을 지원하면 그대로, 아니면 최신 버전으로 응답.
+     */
+    private McpResponse handleInitialize(Object id, Map<String, Object> params) {
+        log.info("MCP initialize request received");
+
+        Object requestedVersion = params != null ? params.get("protocolVersion") : null;
+        String protocolVersion = requestedVersion instanceof String version && SUPPORTED_PROTOCOL_VERSIONS.contains(version)
+            ? version
+            : LATEST_PROTOCOL_VERSION;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("protocolVersion", protocolVersion);
+        result.put("serverInfo", Map.of(
+            "name", ToolListCache.SERVER_NAME,
+            "version", ToolListCache.SERVER_VERSION
+        ));
+
+        Map<String, Object> capabilities = new HashMap<>();
+        capabilities.put("tools", Map.of("listChanged", true));
+        result.put("capabilities", capabilities);
+
+        return McpResponse.success(id, result);
+    }
+
+    /**
+     * Handle tools/list request
+     * 미리 직렬화된 목록을 그대로 응답에 삽입 (ToolListCache)
+     */
+    private McpResponse handleToolsList(Object id, HttpServletRequest httpRequest) {
+        log.debug("Handling tools/list request");
+
+        // Check for readonly header
+        String readonlyHeader = httpRequest.getHeader("X-Readonly");
+        boolean isReadonly = "true".equalsIgnoreCase(readonlyHeader);
+
+        if (isReadonly) {
+            log.info("Readonly mode enabled - filtering write tools from list");
+        }
+
+        return McpResponse.success(id, toolListCache.toolsList(isReadonly).raw());
+    }
+
+    /**
+     * Handle tools/call request
+     */
+    private Mono<McpResponse> handleToolsCall(Object id, Map<String, Object> params, HttpServletRequest httpRequest) {
+        log.debug("Handling tools/call request with params: {}", params);
+
+        if (params == null) {
+            return Mono.just(McpResponse.error(id, -32602, "Invalid params: params is required"));
+        }
+
+        String toolName = (String) params.get("name");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> arguments = (Map<String, Object>) params.get("arguments");
+
+        // Check for readonly header
+        String readonlyHeader = httpRequest.getHeader("X-Readonly");
+        boolean isReadonly = "true".equalsIgnoreCase(readonlyHeader);
+
+        // Check if tool is write operation when readonly mode is enabled
+        if (isReadonly && registry.isWriteTool(toolName)) {
+            log.warn("Readonly mode: blocking write tool execution: {}", toolName);
+            return Mono.just(McpResponse.error(id, -32000, "Write operations not allowed in readonly mode"));
+        }
+
+        // JWT audit logging
+        if ("jwt".equals(securityMode) && auditLogger != null) {
+            String userId = (String) httpRequest.getAttribute("user_id");
+            if (userId != null) {
+                auditLogger.logToolInvocation(userId, toolName, arguments);
+            }
+        }
+
+        Object progressToken = progressToken(params);
+        try {
+            return toolDispatcher.invoke(toolName, arguments)
+                .map(toolResult -> toolCallResponse(id, toolResult))
+                .switchIfEmpty(Mono.fromSupplier(() -> toolCallResponse(id, null)))
+                .onErrorResume(e -> Mono.just(toolCallError(id, toolName, e)))
+                .contextWrite(ctx -> progressToken == null ? ctx
+                    : ctx.put(McpProgress.CONTEXT_KEY, new McpProgress(progressToken, McpNotifier.from(ctx))));
+        } catch (Exception e) {
+            return Mono.just(toolCallError(id, toolName, e));
+        }
+    }
+
+    /**
+     * tools/call 의 _meta.progressToken (문자열 또는 숫자). 없으면 null - 진행 알림을 보내지 않는다.
+     */
+    private static Object progressToken(Map<String, Object> params) {
+        return params.get("_meta") instanceof Map<?, ?> meta ? meta.get("progressToken") : null;
+    }
+
+    /**
+     * Build MCP tool response with content array format
+     * text 는 JsonText 로 감싸 응답 기록 시점에 직렬화한다 (중간 String 없이 이스케이프된 JSON 텍스트로 스트리밍).
+     */
+    private McpResponse toolCallResponse(Object id, Object toolResult) {
+        Map<String, Object> result = new HashMap<>();
+        List<Map<String, Object>> content = new ArrayList<>();
+
+        Map<String, Object> textContent = new HashMap<>();
+        textContent.put("type", "text");
+        textContent.put("text", new JsonText(toolResult));
+        content.add(textContent);
+
+        result.put("content", content);
+        result.put("isError", false);
+
+        return McpResponse.success(id, result);
+    }
+
+    private McpResponse toolCallError(Object id, String toolName, Throwable error) {
+        // 도구가 감싸서 다시 던졌어도 빠른 실패 오류는 전용 코드로 응답한다
+        RuntimeException failFast = FailFastErrors.find(error);
+        Throwable e = failFast != null ? failFast : error;
+        if (e instanceof IllegalArgumentException) {
+            log.error("Invalid parameters for tool {}: {}", toolName, e.getMessage());
+            return McpResponse.error(id, -32602, "Invalid params: " + e.getMessage());
+        }
+        if (e instanceof RateLimitExceededException) {
+            log.warn("Tool {} rejected by rate limiter: {}", toolName, e.getMessage());
+            return McpResponse.error(id, RATE_LIMITED, e.getMessage());
+        }
+        if (e instanceof UpstreamUnavailableException) {
+            log.warn("Tool {} failed fast: {}", toolName, e.getMessage());
+            return McpResponse.error(id, UPSTREAM_UNAVAILABLE, e.getMessage());
+        }
+        log.error("Tool execution failed: {}", e.getMessage(), e);
+        return McpResponse.error(id, -32603, "Tool execution failed: " + e.getMessage());
+    }
+}
@@ -0,0 +1,66 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.McpNotification;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+/**
+ * MCP Streamable HTTP 세션.
+ * initialize 시 생성되어 Mcp-Session-Id 헤더로 식별되며,
+ * GET /mcp SSE 스트림으로 서버 발신 알림을 전달한다.
+ */
+@Slf4j
+public class McpSession {
+
+    private static final Duration EMIT_RETRY = Duration.ofMillis(50);
+
+    private final String id;
+    private final Sinks.Many<McpNotification> notifications = Sinks.many().multicast().directBestEffort();
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    McpSession(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 세션 알림 스트림 (GET /mcp). 구독자가 없을 때 발행된 알림은 버려진다.
+     */
+    public Flux<McpNotification> notifications() {
+        return notifications.asFlux();
+    }
+
+    /**
+     * 세션의 열린 스트림으로 알림 전송. 스레드 안전.
+     */
+    public void publish(McpNotification notification) {
+        try {
+            notifications.emitNext(notification, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+        } catch (Sinks.EmissionException e) {
+            log.debug("Dropped notification {} for session {}: {}", notification.getMethod(), id, e.getMessage());
+        }
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    boolean isIdle(long idleTimeoutNanos) {
+        return notifications.currentSubscriberCount() == 0
+                && System.nanoTime() - lastAccessNanos > idleTimeoutNanos;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void close() {
+        notifications.tryEmitComplete();
+    }
+}
@@ -0,0 +1,116 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.McpNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MCP 세션 관리.
+ * 유휴 세션은 생성 시점에 주기적으로 정리하며, 최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션을 닫는다.
+ */
+@Slf4j
+@Component
+public class McpSessionManager {
+
+    public static final String SESSION_HEADER = "Mcp-Session-Id";
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final Map<String, McpSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private final long idleTimeoutNanos;
+    private final int maxSessions;
+
+    public McpSessionManager(
+            @Value("${mcp.session.idleTimeout:30m}") Duration idleTimeout,
+            @Value("${mcp.session.maxSessions:10000}") int maxSessions) {
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * 새 세션 생성 (initialize 요청).
+     */
+    public McpSession create() {
+        sweepIfDue();
+        if (sessions.size() >= maxSessions) {
+            evictLeastRecentlyUsed();
+        }
+        McpSession session = new McpSession(UUID.randomUUID().toString());
+        sessions.put(session.getId(), session);
+        log.debug("MCP session created: {}", session.getId());
+        return session;
+    }
+
+    /**
+     * 세션 조회. 없거나 만료된 경우 null.
+     */
+    public McpSession find(String sessionId) {
+        McpSession session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        if (session.isIdle(idleTimeoutNanos)) {
+            terminate(sessionId);
+            return null;
+        }
+        session.touch();
+        return session;
+    }
+
+    /**
+     * 세션 종료 (DELETE /mcp).
+     *
+     * @return 세션이 존재했으면 true
+     */
+    public boolean terminate(String sessionId) {
+        McpSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        session.close();
+        log.debug("MCP session terminated: {}", sessionId);
+        return true;
+    }
+
+    /**
+     * 모든 세션의 열린 스트림으로 알림 전송.
+     */
+    public void broadcast(McpNotification notification) {
+        sessions.values().forEach(session -> session.publish(notification));
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private void sweepIfDue() {
+        long last = lastSweepNanos.get();
+        long now = System.nanoTime();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        sessions.values().stream()
+                .filter(session -> session.isIdle(idleTimeoutNanos))
+                .map(McpSession::getId)
+                .toList()
+                .forEach(this::terminate);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        sessions.values().stream()
+                .min(Comparator.comparingLong(McpSession::lastAccessNanos))
+                .ifPresent(session -> {
+                    log.warn("MCP session limit ({}) reached - evicting session {}", maxSessions, session.getId());
+                    terminate(session.getId());
+                });
+    }
+}
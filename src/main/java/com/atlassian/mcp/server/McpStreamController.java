@@ -1,256 +1,319 @@
 package com.atlassian.mcp.server;
 
-import com.atlassian.mcp.auth.JwtAuditLogger;
+import com.atlassian.mcp.core.McpNotifier;
 import com.atlassian.mcp.core.McpRequest;
 import com.atlassian.mcp.core.McpResponse;
-import com.atlassian.mcp.core.ToolRegistry;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * MCP Protocol Controller
- * Handles JSON-RPC 2.0 requests according to MCP specification
+ * Handles JSON-RPC 2.0 requests according to MCP specification (Streamable HTTP transport)
+ *
+ * - POST /mcp: Accept 헤더와 mcp.transport.streamFormat 설정에 따라
+ *   단일 JSON 응답 또는 SSE / NDJSON 스트림(진행 알림 + 최종 응답)으로 응답
+ * - GET /mcp: 세션 알림 SSE 스트림 (Mcp-Session-Id 필요)
+ * - DELETE /mcp: 세션 종료
  */
 @Slf4j
 @RestController
 @RequestMapping("/mcp")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = McpSessionManager.SESSION_HEADER)
 public class McpStreamController {
-    
-    private final ToolRegistry registry;
-    private final ObjectMapper mapper;
-    private final JwtAuditLogger auditLogger;
-    private final String securityMode;
+
+    private final ToolListCache toolListCache;
+    private final McpRequestHandler requestHandler;
+    private final McpSessionManager sessionManager;
+    private final McpStreamWriter streamWriter;
+    private final McpStreamFormat preferredFormat;
+    private final int maxBatchSize;
+    private final boolean compressionEnabled;
 
     public McpStreamController(
-            ToolRegistry registry, 
-            ObjectMapper mapper,
-            @Autowired(required = false) JwtAuditLogger auditLogger,
-            @Value("${app.security.mode:none}") String securityMode) {
-        this.registry = registry;
-        this.mapper = mapper;
-        this.auditLogger = auditLogger;
-        this.securityMode = securityMode;
+            ToolListCache toolListCache,
+            McpRequestHandler requestHandler,
+            McpSessionManager sessionManager,
+            McpStreamWriter streamWriter,
+            @Value("${mcp.transport.streamFormat:json}") String streamFormat,
+            @Value("${mcp.batch.maxSize:50}") int maxBatchSize,
+            @Value("${server.compression.enabled:false}") boolean compressionEnabled) {
+        this.toolListCache = toolListCache;
+        this.requestHandler = requestHandler;
+        this.sessionManager = sessionManager;
+        this.streamWriter = streamWriter;
+        this.preferredFormat = McpStreamFormat.fromConfig(streamFormat);
+        this.maxBatchSize = maxBatchSize;
+        this.compressionEnabled = compressionEnabled;
+        log.info("MCP transport preferred stream format: {}", preferredFormat);
     }
 
     /**
      * MCP JSON-RPC 2.0 endpoint
      * POST /
+     *
+     * 비동기 서블릿 처리: 도구가 반환한 Mono를 그대로 응답까지 전달하므로
+     * Atlassian 호출 동안 Tomcat 워커 스레드를 점유하지 않는다.
+     * 본문은 단일 요청 객체 또는 JSON-RPC 배치 배열.
+     * 반환 타입은 응답 형식에 따라 DeferredResult(JSON), SseEmitter(SSE), ResponseBodyEmitter(NDJSON), ResponseEntity(202/4xx).
      */
-    @PostMapping(value = "", 
-                 consumes = MediaType.APPLICATION_JSON_VALUE,
-                 produces = MediaType.APPLICATION_JSON_VALUE)
-    public McpResponse handleMcpRequest(@RequestBody McpRequest request, HttpServletRequest httpRequest) {
+    @PostMapping(value = "", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Object handleMcpRequest(
+            @RequestBody JsonNode body,
+            @RequestHeader(value = McpSessionManager.SESSION_HEADER, required = false) String sessionId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        if (body.isArray()) {
+            return handleBatch(body, sessionId, accept, httpRequest, httpResponse);
+        }
+
+        McpRequest request = requestHandler.parse(body);
+        if (request == null) {
+            return invalidRequest("Invalid Request");
+        }
         log.info("Received MCP request - method: {}, id: {}", request.getMethod(), request.getId());
 
-        try {
-            // Handle notification requests (no id, no response needed)
-            if (request.getId() == null) {
-                log.debug("Received notification: {}", request.getMethod());
-                // For notifications, we still return a response but it will be ignored
-                return handleNotification(request.getMethod());
+        McpSession session = null;
+        if ("initialize".equals(request.getMethod())) {
+            session = sessionManager.create();
+            httpResponse.setHeader(McpSessionManager.SESSION_HEADER, session.getId());
+        } else if (sessionId != null) {
+            session = sessionManager.find(sessionId);
+            if (session == null) {
+                return sessionNotFound(request.getId());
             }
-            
-            return switch (request.getMethod()) {
-                case "initialize" -> handleInitialize(request.getId(), request.getParams());
-                case "initialized" -> handleInitialized(request.getId());
-                case "ping" -> handlePing(request.getId());
-                case "tools/list" -> handleToolsList(request.getId(), httpRequest);
-                case "tools/call" -> handleToolsCall(request.getId(), request.getParams(), httpRequest);
-                default -> {
-                    // Try to invoke as a registered tool
-                    try {
-                        Object result = registry.invoke(request.getMethod(), request.getParams());
-                        yield McpResponse.success(request.getId(), result);
-                    } catch (IllegalArgumentException e) {
-                        log.error("Invalid parameters: method={}, error={}", request.getMethod(), e.getMessage());
-                        yield McpResponse.error(request.getId(), -32602, 
-                            "Invalid params: " + e.getMessage());
-                    } catch (Exception e) {
-                        log.error("Tool invocation failed: method={}, error={}", request.getMethod(), e.getMessage());
-                        yield McpResponse.error(request.getId(), -32603, 
-                            "Internal error: " + e.getMessage());
-                    }
-                }
-            };
-        } catch (Exception e) {
-            log.error("Error handling MCP request", e);
-            return McpResponse.error(request.getId(), -32603, 
-                "Internal error: " + e.getMessage());
         }
-    }
 
-    /**
-     * Handle notification (no response expected)
-     */
-    private McpResponse handleNotification(String method) {
-        log.debug("Processing notification: {}", method);
-        // Return empty success response (will be ignored by client)
-        return McpResponse.success(null, Map.of());
+        // Notifications (no id): 202 Accepted, no body
+        if (request.getId() == null) {
+            log.debug("Received notification: {}", request.getMethod());
+            requestHandler.handleNotification(request, cancelScope(session, httpRequest));
+            return ResponseEntity.accepted().build();
+        }
+
+        Mono<McpResponse> response = requestHandler.handle(request, cancelScope(session, httpRequest), httpRequest);
+        McpStreamFormat format = McpStreamFormat.negotiate(accept, preferredFormat);
+        if (format == McpStreamFormat.JSON) {
+            Object id = request.getId();
+            return deferred(response
+                .switchIfEmpty(Mono.fromSupplier(() -> McpResponse.error(id, -32800, "Request cancelled")))
+                .contextWrite(Context.of(McpNotifier.CONTEXT_KEY, sessionNotifier(session))));
+        }
+        return stream(format, response.flux(), httpResponse);
     }
 
     /**
-     * Handle initialized notification
+     * JSON-RPC 배치: 요소별 응답을 요청 순서대로 하나의 HTTP 응답(JSON 배열 또는 스트림)으로 반환.
      */
-    private McpResponse handleInitialized(Object id) {
-        log.debug("Client initialized successfully");
-        return McpResponse.success(id, Map.of());
+    private Object handleBatch(
+            JsonNode body,
+            String sessionId,
+            String accept,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        log.info("Received MCP batch request - size: {}", body.size());
+        if (body.isEmpty()) {
+            return invalidRequest("Invalid Request: empty batch");
+        }
+        if (body.size() > maxBatchSize) {
+            return invalidRequest("Invalid Request: batch size " + body.size() + " exceeds limit " + maxBatchSize);
+        }
+
+        McpSession session = null;
+        if (sessionId != null) {
+            session = sessionManager.find(sessionId);
+            if (session == null) {
+                return sessionNotFound(null);
+            }
+        }
+
+        List<JsonNode> elements = new ArrayList<>(body.size());
+        body.forEach(elements::add);
+        boolean notificationsOnly = elements.stream()
+            .allMatch(element -> element.isObject() && !element.hasNonNull("id"));
+
+        Flux<McpResponse> responses = requestHandler.handleBatch(elements, cancelScope(session, httpRequest), httpRequest);
+        if (notificationsOnly) {
+            return ResponseEntity.accepted().build();
+        }
+
+        McpStreamFormat format = McpStreamFormat.negotiate(accept, preferredFormat);
+        if (format == McpStreamFormat.JSON) {
+            return deferred(responses.collectList()
+                .contextWrite(Context.of(McpNotifier.CONTEXT_KEY, sessionNotifier(session))));
+        }
+        return stream(format, responses, httpResponse);
     }
 
     /**
-     * Handle ping request
+     * GET / - 세션 알림 스트림 (server → client)
      */
-    private McpResponse handlePing(Object id) {
-        log.debug("Client ping request");
-        return McpResponse.success(id, Map.of());
+    @GetMapping(value = "", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Object openNotificationStream(
+            @RequestHeader(value = McpSessionManager.SESSION_HEADER, required = false) String sessionId) {
+        if (sessionId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        McpSession session = sessionManager.find(sessionId);
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        log.debug("Opening notification stream for session {}", sessionId);
+        return streamWriter.sse(session.notifications());
     }
 
     /**
-     * Handle initialize request
+     * DELETE / - 세션 종료
      */
-    private McpResponse handleInitialize(Object id, Map<String, Object> params) {
-        log.info("MCP initialize request received");
-        
-        Map<String, Object> result = new HashMap<>();
-        result.put("protocolVersion", "2024-11-05");
-        result.put("serverInfo", Map.of(
-            "name", "mcp-atlassian-java",
-            "version", "0.1.0"
-        ));
-        
-        Map<String, Object> capabilities = new HashMap<>();
-        capabilities.put("tools", Map.of("listChanged", true));
-        result.put("capabilities", capabilities);
-        
-        return McpResponse.success(id, result);
+    @DeleteMapping("")
+    public ResponseEntity<Void> terminateSession(
+            @RequestHeader(value = McpSessionManager.SESSION_HEADER, required = false) String sessionId) {
+        if (sessionId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return sessionManager.terminate(sessionId)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
     }
 
     /**
      * GET /tools - List all available tools (JSON format)
      * Simple HTTP endpoint for viewing tool documentation
+     *
+     * 미리 직렬화된 문서를 ETag 와 함께 반환하며, If-None-Match 가 일치하면 304.
+     * X-Readonly: true 이면 읽기 전용 도구만 포함.
      */
     @GetMapping(value = "/tools", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Map<String, Object> getTools() {
+    public ResponseEntity<byte[]> getTools(
+            @RequestHeader(value = "X-Readonly", required = false) String readonlyHeader,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.debug("HTTP GET /tools request");
-        
-        var toolMetadataList = registry.getAllMetadata();
-        var tools = toolMetadataList.stream()
-            .map(meta -> Map.of(
-                "name", meta.getName(),
-                "description", meta.getDescription(),
-                "inputSchema", meta.getInputSchema()
-            ))
-            .toList();
 
-        return Map.of(
-            "serverInfo", Map.of(
-                "name", "mcp-atlassian-java",
-                "version", "0.1.0",
-                "protocol", "MCP 2024-11-05"
-            ),
-            "totalTools", tools.size(),
-            "tools", tools
-        );
+        ToolListCache.Payload document = toolListCache.toolsDocument("true".equalsIgnoreCase(readonlyHeader));
+        // Tomcat 은 강한 ETag 가 있는 응답을 압축하지 않으므로 미리 압축해 둔 gzip 표현을 직접 선택
+        boolean gzip = compressionEnabled && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(gzip ? document.gzipEtag() : document.etag())
+            .varyBy("X-Readonly", HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? document.gzipBytes() : document.bytes());
+    }
+
+    private Object stream(McpStreamFormat format, Flux<McpResponse> responses, HttpServletResponse httpResponse) {
+        Flux<Object> messages = streamMessages(responses);
+        return format == McpStreamFormat.SSE
+            ? streamWriter.sse(messages)
+            : streamWriter.ndjson(messages, httpResponse);
     }
 
     /**
-     * Handle tools/list request
+     * 응답 Flux를 메시지 스트림으로 변환: 처리 중 발생한 알림과 응답을 발생 순서대로 내보낸다.
+     * 스트림 구독이 해제되면(연결 종료·타임아웃) 응답 구독도 함께 해제된다.
      */
-    private McpResponse handleToolsList(Object id, HttpServletRequest httpRequest) {
-        log.debug("Handling tools/list request");
-        
-        // Check for readonly header
-        String readonlyHeader = httpRequest.getHeader("X-Readonly");
-        boolean isReadonly = "true".equalsIgnoreCase(readonlyHeader);
-        
-        if (isReadonly) {
-            log.info("Readonly mode enabled - filtering write tools from list");
-        }
-        
-        var toolMetadataList = registry.getAllMetadata();
-        var tools = toolMetadataList.stream()
-            .filter(meta -> !isReadonly || meta.isReadOnly()) // Filter write tools if readonly
-            .map(meta -> Map.of(
-                "name", meta.getName(),
-                "description", meta.getDescription(),
-                "inputSchema", meta.getInputSchema()
-            ))
-            .toList();
-
-        Map<String, Object> result = Map.of("tools", tools);
-        return McpResponse.success(id, result);
+    private static Flux<Object> streamMessages(Flux<McpResponse> responses) {
+        return Flux.create(sink -> {
+            McpNotifier inline = sink::next;
+            Disposable subscription = responses
+                .contextWrite(Context.of(McpNotifier.CONTEXT_KEY, inline))
+                .subscribe(sink::next, sink::error, sink::complete);
+            sink.onDispose(subscription);
+        });
     }
 
     /**
-     * Handle tools/call request
+     * Mono 를 DeferredResult 로 연결. Spring 의 기본 Mono 처리는 타임아웃에만 구독을 해제하므로,
+     * 클라이언트 연결 종료(비동기 요청 오류) 시에도 구독을 해제해 진행 중인 Atlassian 호출을 취소한다.
      */
-    private McpResponse handleToolsCall(Object id, Map<String, Object> params, HttpServletRequest httpRequest) {
-        log.debug("Handling tools/call request with params: {}", params);
+    private static DeferredResult<Object> deferred(Mono<?> response) {
+        DeferredResult<Object> result = new DeferredResult<>();
+        Disposable subscription = response.subscribe(
+            result::setResult,
+            result::setErrorResult,
+            () -> result.setResult(null));
+        result.onTimeout(subscription::dispose);
+        result.onError(error -> {
+            log.debug("MCP request aborted: {}", error.toString());
+            subscription.dispose();
+        });
+        result.onCompletion(subscription::dispose);
+        return result;
+    }
 
-        if (params == null) {
-            return McpResponse.error(id, -32602, "Invalid params: params is required");
+    /**
+     * notifications/cancelled 가 적용되는 범위: 세션, 없으면 인증된 사용자(JWT). 둘 다 없으면 연결 종료로만 취소.
+     */
+    private static String cancelScope(McpSession session, HttpServletRequest httpRequest) {
+        if (session != null) {
+            return session.getId();
         }
+        Object userId = httpRequest.getAttribute("user_id");
+        return userId != null ? "user:" + userId : null;
+    }
 
-        String toolName = (String) params.get("name");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> arguments = (Map<String, Object>) params.get("arguments");
+    /**
+     * JSON 응답에는 인라인 스트림이 없으므로 알림은 세션 스트림(GET /mcp)이 열려 있을 때만 전달된다.
+     */
+    private static McpNotifier sessionNotifier(McpSession session) {
+        return session != null ? session::publish : McpNotifier.NONE;
+    }
 
-        // Check for readonly header
-        String readonlyHeader = httpRequest.getHeader("X-Readonly");
-        boolean isReadonly = "true".equalsIgnoreCase(readonlyHeader);
-        
-        // Check if tool is write operation when readonly mode is enabled
-        if (isReadonly) {
-            var metadata = registry.getAllMetadata().stream()
-                .filter(m -> m.getName().equals(toolName))
-                .findFirst();
-            
-            if (metadata.isPresent() && !metadata.get().isReadOnly()) {
-                log.warn("Readonly mode: blocking write tool execution: {}", toolName);
-                return McpResponse.error(id, -32000, "Write operations not allowed in readonly mode");
-            }
+    /**
+     * Accept-Encoding 에 gzip 이 있고 q=0 이 아니면 true.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
         }
-
-        // JWT audit logging
-        if ("jwt".equals(securityMode) && auditLogger != null) {
-            String userId = (String) httpRequest.getAttribute("user_id");
-            if (userId != null) {
-                auditLogger.logToolInvocation(userId, toolName, arguments);
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!"gzip".equalsIgnoreCase(name) && !"*".equals(name)) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
             }
+            return !rejected;
         }
+        return false;
+    }
 
-        try {
-            Object toolResult = registry.invoke(toolName, arguments);
-            
-            // Build MCP tool response with content array format
-            Map<String, Object> result = new HashMap<>();
-            List<Map<String, Object>> content = new ArrayList<>();
-            
-            Map<String, Object> textContent = new HashMap<>();
-            textContent.put("type", "text");
-            textContent.put("text", mapper.writeValueAsString(toolResult));
-            content.add(textContent);
-            
-            result.put("content", content);
-            result.put("isError", false);
-            
-            return McpResponse.success(id, result);
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid parameters for tool {}: {}", toolName, e.getMessage());
-            return McpResponse.error(id, -32602, "Invalid params: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("Tool execution failed: {}", e.getMessage(), e);
-            return McpResponse.error(id, -32603, "Tool execution failed: " + e.getMessage());
-        }
+    private static ResponseEntity<McpResponse> invalidRequest(String message) {
+        return ResponseEntity.badRequest()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(McpResponse.error(null, -32600, message));
+    }
+
+    private static ResponseEntity<McpResponse> sessionNotFound(Object id) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(McpResponse.error(id, -32001, "Session not found"));
     }
 }
@@ -0,0 +1,77 @@
+package com.atlassian.mcp.server;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * POST /mcp 응답 형식.
+ * JSON: 단일 JSON-RPC 응답, NDJSON/SSE: 알림 + 응답을 메시지 단위로 스트리밍.
+ */
+public enum McpStreamFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    SSE(MediaType.TEXT_EVENT_STREAM);
+
+    private final MediaType mediaType;
+
+    McpStreamFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * mcp.transport.streamFormat 설정값 파싱 (json | ndjson | sse). 알 수 없는 값은 JSON.
+     */
+    public static McpStreamFormat fromConfig(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+    }
+
+    /**
+     * Accept 헤더와 서버 선호 형식으로 응답 형식 결정.
+     * 스트리밍 형식은 Accept에 명시된 경우에만 선택하고(와일드카드 제외),
+     * 선호 형식을 받을 수 없으면 JSON → SSE → NDJSON 순으로 대체한다.
+     */
+    public static McpStreamFormat negotiate(String acceptHeader, McpStreamFormat preferred) {
+        List<MediaType> accepted = parseAccept(acceptHeader);
+        if (preferred.isAcceptedBy(accepted)) {
+            return preferred;
+        }
+        for (McpStreamFormat format : List.of(JSON, SSE, NDJSON)) {
+            if (format.isAcceptedBy(accepted)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    private boolean isAcceptedBy(List<MediaType> accepted) {
+        if (this == JSON) {
+            return accepted.stream().anyMatch(type -> type.includes(mediaType));
+        }
+        return accepted.stream().anyMatch(type -> type.equalsTypeAndSubtype(mediaType));
+    }
+
+    private static List<MediaType> parseAccept(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return List.of(MediaType.ALL);
+        }
+        try {
+            return MediaType.parseMediaTypes(acceptHeader);
+        } catch (InvalidMediaTypeException e) {
+            return List.of(MediaType.ALL);
+        }
+    }
+}
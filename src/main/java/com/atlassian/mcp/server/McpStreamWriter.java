@@ -0,0 +1,108 @@
+package com.atlassian.mcp.server;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * JSON-RPC 메시지 Flux를 SSE / NDJSON 응답으로 기록.
+ * 메시지마다 즉시 flush 되며, 클라이언트 연결 종료·타임아웃 시 구독을 해제해 업스트림 호출도 취소된다.
+ */
+@Slf4j
+@Component
+public class McpStreamWriter {
+
+    private static final String NEWLINE = "\n";
+
+    private final Duration heartbeat;
+    private final long timeoutMillis;
+
+    public McpStreamWriter(
+            @Value("${mcp.transport.heartbeat:15s}") Duration heartbeat,
+            @Value("${mcp.transport.streamTimeout:30m}") Duration streamTimeout) {
+        this.heartbeat = heartbeat;
+        this.timeoutMillis = streamTimeout.toMillis();
+    }
+
+    /**
+     * text/event-stream: 메시지마다 "event: message" 이벤트, 유휴 시 keep-alive 주석.
+     * 첫 keep-alive 는 즉시 보내 알림이 없어도 응답 헤더가 바로 전송되도록 한다.
+     */
+    public SseEmitter sse(Flux<?> messages) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Disposable.Composite subscriptions = Disposables.composite();
+        subscriptions.add(Flux.interval(Duration.ZERO, heartbeat).subscribe(tick -> {
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                subscriptions.dispose();
+            }
+        }));
+        subscriptions.add(messages.subscribe(
+                message -> send(emitter, SseEmitter.event().name("message").data(message, MediaType.APPLICATION_JSON).build()),
+                error -> complete(emitter, subscriptions, error),
+                () -> complete(emitter, subscriptions, null)));
+        bindLifecycle(emitter, subscriptions);
+        return emitter;
+    }
+
+    /**
+     * application/x-ndjson: 메시지마다 JSON 한 줄.
+     */
+    public ResponseBodyEmitter ndjson(Flux<?> messages, HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        Disposable.Composite subscriptions = Disposables.composite();
+        subscriptions.add(messages.subscribe(
+                message -> send(emitter, ndjsonLine(message)),
+                error -> complete(emitter, subscriptions, error),
+                () -> complete(emitter, subscriptions, null)));
+        bindLifecycle(emitter, subscriptions);
+        return emitter;
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> ndjsonLine(Object message) {
+        Set<ResponseBodyEmitter.DataWithMediaType> line = new LinkedHashSet<>(2);
+        line.add(new ResponseBodyEmitter.DataWithMediaType(message, MediaType.APPLICATION_JSON));
+        line.add(new ResponseBodyEmitter.DataWithMediaType(NEWLINE, MediaType.TEXT_PLAIN));
+        return line;
+    }
+
+    private static void send(ResponseBodyEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+        try {
+            emitter.send(data);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 - 구독 취소로 전파
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static void complete(ResponseBodyEmitter emitter, Disposable subscriptions, Throwable error) {
+        subscriptions.dispose();
+        if (error == null) {
+            emitter.complete();
+        } else {
+            log.debug("MCP stream terminated with error: {}", error.getMessage());
+            emitter.completeWithError(error);
+        }
+    }
+
+    private static void bindLifecycle(ResponseBodyEmitter emitter, Disposable subscriptions) {
+        emitter.onTimeout(subscriptions::dispose);
+        emitter.onError(error -> subscriptions.dispose());
+        emitter.onCompletion(subscriptions::dispose);
+    }
+}
@@ -0,0 +1,101 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.ToolRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 도구 실행 방식 선택 (mcp.dispatch.mode).
+ *
+ * - async (기본): 도구가 반환한 Mono 를 그대로 전달. 요청 스레드는 즉시 반환된다.
+ * - virtual: 도구 호출마다 가상 스레드 하나에서 도구를 실행하고 결과를 블로킹으로 기다린다.
+ *   블로킹 코드(.block(), join())가 섞인 도구도 플랫폼 스레드를 점유하지 않는다.
+ *   요청 스코프(RequestContextHolder) 는 가상 스레드로 전달된다.
+ *   취소(notifications/cancelled, 연결 종료, 시간 초과)는 가상 스레드를 인터럽트하며, 이때 구독자는 이미 떠났으므로
+ *   인터럽트 상태만 복원하고 조용히 끝낸다.
+ */
+@Slf4j
+@Component
+public class ToolDispatcher implements DisposableBean {
+
+    public enum Mode { ASYNC, VIRTUAL }
+
+    private final ToolRegistry registry;
+    private final Mode mode;
+    private final ExecutorService virtualThreads;
+    private final Scheduler virtualScheduler;
+
+    public ToolDispatcher(ToolRegistry registry, @Value("${mcp.dispatch.mode:async}") String mode) {
+        this.registry = registry;
+        this.mode = "virtual".equals(mode.trim().toLowerCase(Locale.ROOT)) ? Mode.VIRTUAL : Mode.ASYNC;
+        if (this.mode == Mode.VIRTUAL) {
+            this.virtualThreads = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("mcp-tool-", 0).factory());
+            // 취소 시 인터럽트 → block() 중인 도구 호출도 중단
+            this.virtualScheduler = Schedulers.fromExecutorService(virtualThreads, "mcp-tool");
+        } else {
+            this.virtualThreads = null;
+            this.virtualScheduler = null;
+        }
+        log.info("MCP tool dispatch mode: {}", this.mode);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 도구 호출. async 모드의 도구 핸들러는 호출 스레드에서 실행되므로 요청 스레드에서 호출해야 한다.
+     *
+     * @throws IllegalArgumentException async 모드에서 알 수 없는 도구 (virtual 모드에서는 Mono 오류로 전달)
+     */
+    public Mono<Object> invoke(String name, Object params) {
+        if (mode == Mode.ASYNC) {
+            return registry.invokeAsync(name, params);
+        }
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        // Reactor 컨텍스트(알림/진행 보고)도 가상 스레드의 블로킹 호출까지 전달
+        return Mono.deferContextual(context -> Mono.fromCallable(() ->
+                invokeBlocking(requestAttributes, context, name, params)))
+            .subscribeOn(virtualScheduler);
+    }
+
+    private Object invokeBlocking(RequestAttributes requestAttributes, ContextView context, String name, Object params) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return registry.invokeAsync(name, params).contextWrite(context).block();
+        } catch (RuntimeException e) {
+            if (!(Exceptions.unwrap(e) instanceof InterruptedException)) {
+                throw e;
+            }
+            // 취소로 인터럽트됨: 오류를 내보내면 onErrorDropped 가 ERROR 로 남기므로 빈 결과로 끝낸다
+            Thread.currentThread().interrupt();
+            log.debug("Tool {} interrupted by cancellation", name);
+            return null;
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (virtualThreads != null) {
+            virtualScheduler.dispose();
+            virtualThreads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.ToolMetadata;
+import com.atlassian.mcp.core.ToolRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * tools/list 결과와 GET /mcp/tools 문서를 미리 직렬화해 보관.
+ * 전체 / readonly 두 가지 변형(각각 원본과 gzip)을 만들고, ToolRegistry 가 변경(revision 증가)된 경우에만 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ToolListCache {
+
+    static final String SERVER_NAME = "mcp-atlassian-java";
+    static final String SERVER_VERSION = "0.1.0";
+
+    private final ToolRegistry registry;
+    private final ObjectMapper mapper;
+    private volatile Snapshot snapshot;
+
+    public ToolListCache(ToolRegistry registry, ObjectMapper mapper) {
+        this.registry = registry;
+        this.mapper = mapper;
+    }
+
+    /**
+     * JSON-RPC tools/list 결과 ({"tools":[...]}).
+     */
+    public Payload toolsList(boolean readonly) {
+        Snapshot current = current();
+        return readonly ? current.readonlyList : current.fullList;
+    }
+
+    /**
+     * GET /mcp/tools 문서 (serverInfo + tools).
+     */
+    public Payload toolsDocument(boolean readonly) {
+        Snapshot current = current();
+        return readonly ? current.readonlyDocument : current.fullDocument;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        long revision = registry.revision();
+        if (current == null || current.revision != revision) {
+            // 동시에 여러 스레드가 다시 만들어도 결과가 같으므로 잠금 없이 교체
+            current = build(revision);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot build(long revision) {
+        List<Map<String, Object>> full = describe(false);
+        List<Map<String, Object>> readonly = describe(true);
+        log.debug("Serialized tool list (revision {}): {} tools, {} readonly", revision, full.size(), readonly.size());
+        return new Snapshot(
+            revision,
+            serialize(Map.of("tools", full)),
+            serialize(Map.of("tools", readonly)),
+            serialize(document(full)),
+            serialize(document(readonly)));
+    }
+
+    private List<Map<String, Object>> describe(boolean readonly) {
+        return (readonly ? registry.getReadOnlyMetadata() : registry.getAllMetadata()).stream()
+            .map(ToolListCache::describe)
+            .toList();
+    }
+
+    private static Map<String, Object> describe(ToolMetadata meta) {
+        Map<String, Object> tool = new LinkedHashMap<>();
+        tool.put("name", meta.getName());
+        tool.put("description", meta.getDescription());
+        tool.put("inputSchema", meta.getInputSchema());
+        return tool;
+    }
+
+    private static Map<String, Object> document(List<Map<String, Object>> tools) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("serverInfo", Map.of(
+            "name", SERVER_NAME,
+            "version", SERVER_VERSION,
+            "protocol", "MCP " + McpRequestHandler.LATEST_PROTOCOL_VERSION
+        ));
+        document.put("totalTools", tools.size());
+        document.put("tools", tools);
+        return document;
+    }
+
+    private Payload serialize(Object value) {
+        try {
+            String json = mapper.writeValueAsString(value);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            return new Payload(bytes, gzip(bytes), new RawValue(new SerializedString(json)), etag(bytes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize tool list: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 JSON. bytes/gzipBytes 는 HTTP 본문으로, raw 는 다른 응답 객체 안에 그대로 삽입할 때 사용.
+     * 배열은 공유되므로 수정하면 안 된다.
+     */
+    public record Payload(byte[] bytes, byte[] gzipBytes, RawValue raw, String etag) {
+
+        /**
+         * gzip 표현의 ETag. 표현(인코딩)마다 강한 ETag 는 달라야 한다.
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+
+    private record Snapshot(
+            long revision,
+            Payload fullList,
+            Payload readonlyList,
+            Payload fullDocument,
+            Payload readonlyDocument) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.atlassian.mcp.server;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단.
+ * 가상 스레드(mcp.dispatch.mode=virtual 또는 spring.threads.virtual.enabled)를 쓸 때
+ * JFR jdk.VirtualThreadPinned 이벤트를 프로세스 내부에서 구독해, 임계값 이상 캐리어 스레드를 붙잡은
+ * 호출(synchronized 블록 안의 I/O, 네이티브 프레임 등)을 스택과 함께 경고로 남긴다.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12;
+
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private final RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            ToolDispatcher toolDispatcher,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualRequestThreads,
+            @Value("${mcp.dispatch.pinningDiagnostics:true}") boolean enabled,
+            @Value("${mcp.dispatch.pinningThreshold:20ms}") Duration threshold) {
+        boolean virtualThreadsInUse = virtualRequestThreads || toolDispatcher.getMode() == ToolDispatcher.Mode.VIRTUAL;
+        this.stream = enabled && virtualThreadsInUse ? start(threshold) : null;
+    }
+
+    /**
+     * 모니터 시작 이후 기록된 pinning 이벤트 수.
+     */
+    public long getPinnedEvents() {
+        return pinnedEvents.get();
+    }
+
+    private RecordingStream start(Duration threshold) {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            log.info("Virtual thread pinning diagnostics enabled (threshold {} ms)", threshold.toMillis());
+            return recording;
+        } catch (RuntimeException | Error e) {
+            // JFR 을 사용할 수 없는 런타임에서도 서버는 계속 동작
+            log.warn("Virtual thread pinning diagnostics unavailable: {}", e.toString());
+            return null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        log.warn("Virtual thread pinned its carrier for {} ms (thread {}):\n{}",
+            event.getDuration().toMillis(),
+            event.getThread() != null ? event.getThread().getJavaName() : "?",
+            describe(event));
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+            .limit(STACK_DEPTH)
+            .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")")
+            .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.atlassian.mcp.auth;
+
+import com.atlassian.mcp.confluence.ConfluencePageCache;
+import com.atlassian.mcp.http.AtlassianHttpClients;
+import com.atlassian.mcp.http.HttpTestSupport;
+import com.atlassian.mcp.jira.JiraClient;
+import com.atlassian.mcp.jira.JiraIssueCache;
+import com.atlassian.mcp.jira.JiraReferenceCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtlassianClientFactoryTest {
+
+    private final AtlassianHttpClients httpClients = HttpTestSupport.httpClients();
+    private final AtlassianClientFactory factory = new AtlassianClientFactory(
+        "https://jira.example.com", "https://confluence.example.com", new ObjectMapper(), httpClients,
+        new JiraReferenceCache(true, 100, Duration.ofMinutes(10), Duration.ofHours(1), Duration.ofMinutes(10),
+            Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofHours(1)),
+        new JiraIssueCache(true, 100, Duration.ofMinutes(5), Duration.ofSeconds(60)),
+        new ConfluencePageCache(new ObjectMapper(), true, 100, DataSize.ofMegabytes(1), Duration.ofHours(1),
+            DataSize.ofBytes(0), ""),
+        100, Duration.ofMinutes(10));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        httpClients.destroy();
+    }
+
+    @Test
+    void testClientIsReusedPerToken() {
+        JiraClient first = clientFor("token-a");
+        assertSame(first, clientFor("token-a"));
+        assertNotSame(first, clientFor("token-b"));
+
+        var stats = factory.getClientCacheStats().get(0);
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void testFingerprintDoesNotContainToken() {
+        String fingerprint = TokenFingerprint.of("https://jira.example.com", "secret-token");
+        assertFalse(fingerprint.contains("secret-token"));
+        assertEquals(64, fingerprint.length());
+        assertNotEquals(fingerprint, TokenFingerprint.of("https://other.example.com", "secret-token"));
+    }
+
+    private JiraClient clientFor(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("jira_token", token);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return factory.createJiraClient();
+    }
+}
@@ -0,0 +1,113 @@
+package com.atlassian.mcp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] text(String line, int times) {
+        return line.repeat(times).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void testValuesRoundTripCompressed() {
+        try (OffHeapStore<String, Void> store = new OffHeapStore<>("test", dir, 1024 * 1024, 256)) {
+            byte[] page = text("<p>Runbook step</p>", 5000);
+            assertTrue(store.put("page", page));
+            assertTrue(store.put("empty", new byte[0]));
+
+            assertArrayEquals(page, store.get("page"));
+            assertArrayEquals(new byte[0], store.get("empty"));
+            assertNull(store.get("missing"));
+            // 반복되는 본문은 원래 크기보다 훨씬 작게 저장되고 매핑도 필요한 만큼만 한다
+            assertTrue(store.stats().weight() * 20 < page.length);
+            assertEquals(2, store.stats().hits());
+            assertEquals(1, store.stats().misses());
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvictedWhenFull() {
+        try (OffHeapStore<String, Void> store = new OffHeapStore<>("test", dir, 4096, 256)) {
+            // 압축되지 않는 값 1.5 KB x 3 은 4 KB 에 다 들어가지 않는다
+            store.put("a", random(1500));
+            store.put("b", random(1501));
+            store.get("a");
+            store.put("c", random(1502));
+
+            assertArrayEquals(random(1500), store.get("a"));
+            assertNull(store.get("b"));
+            assertArrayEquals(random(1502), store.get("c"));
+            assertEquals(1, store.stats().evictions());
+            assertEquals(4096, store.getMappedBytes());
+        }
+    }
+
+    @Test
+    void testReplacedAndInvalidatedValuesFreeTheirBlocks() {
+        try (OffHeapStore<String, Void> store = new OffHeapStore<>("test", dir, 4096, 256)) {
+            for (int i = 0; i < 20; i++) {
+                assertTrue(store.put("a", random(3000 + i)));
+            }
+            store.put("b:1", random(500));
+            store.put("b:2", random(400));
+            assertEquals(2, store.invalidateIf(key -> key.startsWith("b:")));
+            store.invalidate("a");
+            assertEquals(0, store.size());
+            assertEquals(0, store.stats().weight());
+
+            assertTrue(store.put("c", random(4000)));
+            assertEquals(0, store.stats().evictions());
+        }
+    }
+
+    @Test
+    void testOversizedValuesAreRejectedAndClosedStoreIsEmpty() throws Exception {
+        OffHeapStore<String, Void> store = new OffHeapStore<>("test", dir, 1024, 256);
+        store.put("a", random(100));
+        assertFalse(store.put("a", random(2048)));
+        assertNull(store.get("a"));
+        store.put("b", random(100));
+
+        store.close();
+        assertNull(store.get("b"));
+        assertFalse(store.put("b", random(10)));
+        assertEquals(0, store.size());
+        // 파일은 DELETE_ON_CLOSE 로 열었으므로 닫힌 뒤에는 남지 않는다
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testMetadataTravelsWithValue() {
+        try (OffHeapStore<String, Integer> store = new OffHeapStore<>("test", dir, 4096, 256)) {
+            byte[] page = random(500);
+            store.put("page", page, 3);
+
+            assertArrayEquals(page, store.get("page", version -> version == 3));
+            assertNull(store.get("page", version -> version == 4));
+            assertEquals(1, store.stats().misses());
+            // 값과 함께 축출되므로 메타데이터만 남는 일이 없다
+            store.put("other", random(4000), 1);
+            assertNull(store.get("page"));
+            assertEquals(1, store.size());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.atlassian.mcp.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    @Test
+    void testIdleEntriesExpire() {
+        AtomicLong clock = new AtomicLong();
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, Duration.ofSeconds(10), clock::get);
+        cache.put("a", "A");
+
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals("A", cache.get("a"));
+        // 접근하면 유휴 시간이 다시 시작된다
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals("A", cache.get("a"));
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.stats().expirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 2, Duration.ofMinutes(1));
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        TtlCache.Stats stats = cache.stats();
+        assertEquals(1, stats.evictions());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void testLoaderRunsOnlyOnMiss() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, Duration.ofMinutes(1));
+        AtomicLong loads = new AtomicLong();
+
+        assertEquals("k!", cache.get("k", key -> key + "!" + (loads.incrementAndGet() > 1 ? "again" : "")));
+        assertEquals("k!", cache.get("k", key -> key + "!" + (loads.incrementAndGet() > 1 ? "again" : "")));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testWeightBoundEvictsLeastRecentlyUsed() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 10, String::length, Duration.ofMinutes(1));
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.put("c", "cccc");
+
+        assertNull(cache.get("a"));
+        assertEquals(8, cache.stats().weight());
+        // 한도보다 무거운 값은 넣지 않는다
+        cache.put("d", "d".repeat(11));
+        assertNull(cache.get("d"));
+        assertEquals("bbbb", cache.get("b"));
+
+        cache.invalidate("b");
+        assertEquals(4, cache.stats().weight());
+    }
+}
@@ -0,0 +1,151 @@
+package com.atlassian.mcp.confluence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfluencePageCacheTest {
+
+    private static final String WIKI = "https://wiki.example.com";
+    private static final String EXPAND = "body.storage,version,space";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ConfluencePageCache cache = new ConfluencePageCache(MAPPER, true, 100, 1024 * 1024,
+            Duration.ofHours(1), 0, null, clock::get);
+    private final List<String> fetched = new ArrayList<>();
+    private int version = 3;
+
+    private JsonNode page(boolean withBody) {
+        ObjectNode page = MAPPER.createObjectNode().put("id", "42").put("title", "Runbook");
+        page.putObject("version").put("number", version);
+        if (withBody) {
+            page.putObject("body").putObject("storage").put("value", "<p>step</p>".repeat(2000));
+        }
+        return page;
+    }
+
+    private JsonNode get(ConfluencePageCache.Scope scope) {
+        return scope.get(EXPAND, Mono.fromCallable(() -> page(false)), id -> {
+            fetched.add(id);
+            return Mono.fromCallable(() -> page(true));
+        }).block();
+    }
+
+    @Test
+    void testSameVersionIsServedFromCacheAcrossTokens() {
+        JsonNode first = get(cache.scope(WIKI));
+        JsonNode second = get(cache.scope(WIKI));
+
+        assertEquals(List.of("42"), fetched);
+        assertEquals(first, second);
+        // 꺼낼 때마다 새 트리를 만든다
+        assertNotSame(first, second);
+        assertEquals(1, cache.getHits());
+        // 반복되는 본문은 압축되어 훨씬 작게 저장된다
+        assertTrue(cache.stats().weight() * 10 < cache.getStoredRawBytes());
+    }
+
+    @Test
+    void testNewVersionIsFetchedAndReplacesOldBody() {
+        get(cache.scope(WIKI));
+        version = 4;
+        assertEquals(4, get(cache.scope(WIKI)).path("version").path("number").asInt());
+        get(cache.scope(WIKI));
+
+        assertEquals(2, fetched.size());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void testProbeFailureAndOldEntriesAreNotServed() {
+        get(cache.scope(WIKI));
+        Mono<JsonNode> forbidden = Mono.error(new IllegalStateException("403"));
+        assertThrows(IllegalStateException.class,
+                () -> cache.scope(WIKI).get(EXPAND, forbidden, id -> Mono.just(page(true))).block());
+
+        clock.addAndGet(Duration.ofMinutes(61).toNanos());
+        get(cache.scope(WIKI));
+        cache.scope(WIKI).invalidate("42");
+        get(cache.scope(WIKI));
+        assertEquals(3, fetched.size());
+    }
+
+    @Test
+    void testBodiesCanLiveOffHeap(@TempDir Path dir) {
+        ConfluencePageCache offHeap = new ConfluencePageCache(MAPPER, true, 100, 1024 * 1024,
+                Duration.ofHours(1), 1024 * 1024, dir, clock::get);
+        try {
+            JsonNode first = get(offHeap.scope(WIKI));
+            assertEquals(first, get(offHeap.scope(WIKI)));
+
+            assertEquals(1, fetched.size());
+            // 본문과 버전이 같은 힙 밖 슬롯에 있다
+            assertTrue(offHeap.isOffHeap());
+            assertEquals(1, offHeap.stats().size());
+            assertTrue(offHeap.stats().weight() * 10 < offHeap.getStoredRawBytes());
+
+            // 새 버전은 같은 슬롯을 바꾼다
+            version = 4;
+            assertEquals(4, get(offHeap.scope(WIKI)).path("version").path("number").asInt());
+            assertEquals(1, offHeap.stats().size());
+
+            offHeap.scope(WIKI).invalidate("42");
+            assertEquals(0, offHeap.stats().size());
+        } finally {
+            offHeap.destroy();
+        }
+    }
+
+    @Test
+    void testOffHeapNeedsAnExplicitDirectory(@TempDir Path dir) {
+        ConfluencePageCache noDirectory = new ConfluencePageCache(MAPPER, true, 100, DataSize.ofMegabytes(1),
+                Duration.ofHours(1), DataSize.ofMegabytes(512), "");
+        ConfluencePageCache withDirectory = new ConfluencePageCache(MAPPER, true, 100, DataSize.ofMegabytes(1),
+                Duration.ofHours(1), DataSize.ofMegabytes(1), dir.toString());
+        try {
+            assertFalse(noDirectory.isOffHeap());
+            assertTrue(withDirectory.isOffHeap());
+        } finally {
+            noDirectory.destroy();
+            withDirectory.destroy();
+        }
+    }
+
+    @Test
+    void testEquivalentExpandsShareOneEntry() {
+        get(cache.scope(WIKI));
+        cache.scope(WIKI).get(" space,version,body.storage,", Mono.fromCallable(() -> page(false)), id -> {
+            fetched.add(id);
+            return Mono.fromCallable(() -> page(true));
+        }).block();
+
+        assertEquals(List.of("42"), fetched);
+        assertEquals(1, cache.stats().size());
+        assertEquals("body.storage,space,version", ConfluencePageCache.normalizeExpand("version, body.storage,space,version"));
+        assertEquals("Body.Storage,version", ConfluencePageCache.normalizeExpand("version, Body.Storage"));
+    }
+
+    @Test
+    void testOnlyVersionedExpandsAreCached() {
+        assertTrue(ConfluencePageCache.isCacheable("body.storage,version,space"));
+        assertTrue(ConfluencePageCache.isCacheable("body.storage"));
+        assertFalse(ConfluencePageCache.isCacheable("version"));
+        assertFalse(ConfluencePageCache.isCacheable("body.view,version"));
+        assertFalse(ConfluencePageCache.isCacheable("Body.Storage,version"));
+        assertFalse(ConfluencePageCache.isCacheable("body.storage,children.page"));
+        assertFalse(ConfluencePageCache.Scope.none().caches(EXPAND));
+    }
+}
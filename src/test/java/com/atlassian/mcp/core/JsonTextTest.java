@@ -0,0 +1,47 @@
+package com.atlassian.mcp.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTextTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testSerializesSameTextAsWriteValueAsString() throws Exception {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("key", "PROJ-1");
+        value.put("summary", "quote \" backslash \\ newline \n tab \t 한글 😀");
+        value.put("count", 3);
+        value.put("nested", Map.of("empty", List.of()));
+
+        String json = mapper.writeValueAsString(Map.of("text", new JsonText(value), "type", "text"));
+        JsonNode tree = mapper.readTree(json);
+
+        assertEquals(mapper.writeValueAsString(value), tree.get("text").asText());
+        assertEquals("text", tree.get("type").asText());
+    }
+
+    @Test
+    void testLargeValueSpanningBuffersWithSurrogatePairs() throws Exception {
+        // 내부 버퍼(수 KB) 경계에 서로게이트 쌍이 걸려도 깨지지 않아야 함
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add("item-" + i + "-😀\"");
+        }
+
+        String json = mapper.writeValueAsString(List.of(new JsonText(items), new JsonText(null)));
+        JsonNode tree = mapper.readTree(json);
+
+        assertEquals(mapper.writeValueAsString(items), tree.get(0).asText());
+        assertEquals("null", tree.get(1).asText());
+    }
+}
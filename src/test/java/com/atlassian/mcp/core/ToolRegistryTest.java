@@ -1,6 +1,11 @@
 package com.atlassian.mcp.core;
 
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,4 +33,56 @@ class ToolRegistryTest {
             registry.invoke("unknown_tool", null);
         });
     }
+
+    @Test
+    void testInvokeAsyncRunsHandlerOnCallerThread() {
+        ToolRegistry registry = new ToolRegistry();
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        
+        // 핸들러는 호출 스레드에서 실행되어야 요청 스코프(토큰) 조회가 가능함
+        registry.registerAsync("test_async", "async echo", Map.of(), params -> {
+            handlerThread.set(Thread.currentThread());
+            return Mono.just(params);
+        });
+        
+        Mono<Object> pending = registry.invokeAsync("test_async", "hello");
+        assertSame(Thread.currentThread(), handlerThread.get());
+        assertEquals("hello", pending.block());
+        
+        // 동기 invoke도 비동기 도구를 지원
+        assertEquals("world", registry.invoke("test_async", "world"));
+    }
+    
+    @Test
+    void testInvokeAsyncWrapsBlockingTools() {
+        ToolRegistry registry = new ToolRegistry();
+        registry.register("test_echo", params -> params);
+        registry.register("test_null", params -> null);
+        
+        assertEquals("hello", registry.invokeAsync("test_echo", "hello").block());
+        assertNull(registry.invokeAsync("test_null", "hello").block());
+        assertThrows(IllegalArgumentException.class, () -> registry.invokeAsync("unknown_tool", null));
+    }
+
+    @Test
+    void testReadonlyIndexTracksRegistrations() {
+        ToolRegistry registry = new ToolRegistry();
+        registry.register("b_read", "read", Map.of(), true, params -> params);
+        registry.register("a_write", "write", Map.of(), false, params -> params);
+        
+        assertTrue(registry.isWriteTool("a_write"));
+        assertFalse(registry.isWriteTool("b_read"));
+        assertFalse(registry.isWriteTool("unknown_tool"));
+        assertEquals(List.of("a_write", "b_read"),
+            registry.getAllMetadata().stream().map(ToolMetadata::getName).toList());
+        assertEquals(List.of("b_read"),
+            registry.getReadOnlyMetadata().stream().map(ToolMetadata::getName).toList());
+        
+        // 재등록 시 분류가 갱신되어야 함
+        long revision = registry.revision();
+        registry.register("a_write", "now read", Map.of(), true, params -> params);
+        assertFalse(registry.isWriteTool("a_write"));
+        assertEquals(2, registry.getReadOnlyMetadata().size());
+        assertTrue(registry.revision() > revision);
+    }
 }
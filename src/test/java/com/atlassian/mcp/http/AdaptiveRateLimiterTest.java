@@ -0,0 +1,142 @@
+package com.atlassian.mcp.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveRateLimiter limiter(double rate, int burst) {
+        return new AdaptiveRateLimiter("test", rate, 1, 100, burst, 0.5, 0.9, 1, Duration.ofSeconds(1), clock::get);
+    }
+
+    @Test
+    void testBurstThenSpacedReservations() {
+        AdaptiveRateLimiter limiter = limiter(10, 2);
+
+        assertEquals(Duration.ZERO, limiter.reserve(Duration.ofSeconds(1)));
+        assertEquals(Duration.ZERO, limiter.reserve(Duration.ofSeconds(1)));
+        assertEquals(Duration.ofMillis(100), limiter.reserve(Duration.ofSeconds(1)));
+        assertEquals(Duration.ofMillis(200), limiter.reserve(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testRejectsWhenWaitExceedsLimit() {
+        AdaptiveRateLimiter limiter = limiter(10, 1);
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(limiter.reserve(Duration.ofMillis(250)));
+        }
+        assertNull(limiter.reserve(Duration.ofMillis(250)));
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void testThrottledHalvesRateOncePerCooldownAndPauses() {
+        AdaptiveRateLimiter limiter = limiter(10, 1);
+
+        limiter.onThrottled(Duration.ofSeconds(2));
+        limiter.onThrottled(Duration.ofSeconds(2));
+        assertEquals(5.0, limiter.getRate(), 0.001);
+
+        // Retry-After 동안은 전송하지 않는다
+        assertEquals(Duration.ofSeconds(2), limiter.reserve(Duration.ofSeconds(5)));
+        assertNull(limiter.reserve(Duration.ofSeconds(1)));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        limiter.onThrottled(null);
+        assertEquals(2.5, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    void testSuccessIncreasesAdditivelyAndNearLimitBacksOff() {
+        AdaptiveRateLimiter limiter = limiter(10, 1);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess();
+        }
+        // 초당 요청 수(10)만큼 성공하면 약 +1
+        assertEquals(11.0, limiter.getRate(), 0.1);
+
+        limiter.onNearLimit();
+        assertEquals(11.0 * 0.9, limiter.getRate(), 0.1);
+    }
+
+    @Test
+    void testFilterFailsFastAndAdaptsFrom429() {
+        RateLimitFilter filter = HttpTestSupport.rateLimitPolicy(10, 1, 10, 1, Duration.ofMillis(150))
+            .filterFor("jira.example.com", clock::get);
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/myself"))
+            .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, "token")
+            .build();
+
+        ClientResponse throttled = filter.filter(request, r -> Mono.just(
+            ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).header("Retry-After", "3").build())).block();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, throttled.statusCode());
+        assertEquals(5.0, filter.getTenantLimiter().getRate(), 0.001);
+
+        RateLimitExceededException error = assertThrows(RateLimitExceededException.class,
+            () -> filter.filter(request, r -> Mono.just(
+                ClientResponse.create(HttpStatus.OK).build())).block());
+        assertTrue(error.getMessage().startsWith("Rate limit: too many queued requests for this token on jira.example.com"));
+        assertTrue(error.getRetryAfter().toMillis() > 2000);
+    }
+
+    @Test
+    void testReleaseReturnsSlotButNotDuringPause() {
+        AdaptiveRateLimiter limiter = limiter(10, 1);
+        limiter.reserve(Duration.ofSeconds(1));
+        limiter.reserve(Duration.ofSeconds(1));
+        limiter.release();
+        assertEquals(Duration.ofMillis(100), limiter.reserve(Duration.ofSeconds(1)));
+
+        limiter.onThrottled(Duration.ofSeconds(2));
+        limiter.release();
+        limiter.release();
+        assertEquals(Duration.ofSeconds(2), limiter.timeUntilAvailable());
+    }
+
+    @Test
+    void testTenantRejectionGivesBackTokenReservation() {
+        RateLimitFilter filter = HttpTestSupport.rateLimitPolicy(10, 1, 10, 1, Duration.ofMillis(150))
+            .filterFor("jira.example.com", clock::get);
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/myself"))
+            .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, "token")
+            .build();
+        // 다른 토큰들이 테넌트 한도를 채운 상태
+        filter.getTenantLimiter().reserve(Duration.ofMillis(150));
+        filter.getTenantLimiter().reserve(Duration.ofMillis(150));
+
+        for (int i = 0; i < 3; i++) {
+            RateLimitExceededException error = assertThrows(RateLimitExceededException.class,
+                () -> filter.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block());
+            // 토큰 한도는 거절된 요청 몫을 돌려받아 계속 비어 있다
+            assertTrue(error.getMessage().contains("for jira.example.com"), error.getMessage());
+        }
+    }
+
+    @Test
+    void testCancelWhileDelayedGivesBackReservations() {
+        RateLimitFilter filter = HttpTestSupport.rateLimitPolicy(10, 1, 10, 1, Duration.ofSeconds(1))
+            .filterFor("jira.example.com", clock::get);
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/myself"))
+            .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, "token")
+            .build();
+        filter.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+        assertEquals(Duration.ofMillis(100), filter.getTenantLimiter().timeUntilAvailable());
+
+        // 100ms 대기 중에 취소
+        filter.filter(request, r -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).subscribe().dispose();
+
+        assertEquals(Duration.ofMillis(100), filter.getTenantLimiter().timeUntilAvailable());
+    }
+}
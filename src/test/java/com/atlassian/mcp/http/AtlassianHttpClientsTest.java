@@ -0,0 +1,64 @@
+package com.atlassian.mcp.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtlassianHttpClientsTest {
+
+    @Test
+    void testBearerTokenFilterUsesRequestAttribute() {
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/myself"))
+            .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, "user-token")
+            .build();
+
+        AtlassianHttpClients.bearerToken()
+            .filter(request, r -> {
+                sent.set(r);
+                return Mono.<ClientResponse>empty();
+            })
+            .block();
+
+        assertEquals("Bearer user-token", sent.get().headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void testBearerTokenFilterLeavesRequestWithoutTokenUntouched() {
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/myself")).build();
+
+        AtlassianHttpClients.bearerToken()
+            .filter(request, r -> {
+                sent.set(r);
+                return Mono.<ClientResponse>empty();
+            })
+            .block();
+
+        assertSame(request, sent.get());
+        assertNull(sent.get().headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void testClientIsSharedPerBaseUrl() {
+        AtlassianHttpClients clients = HttpTestSupport.httpClients();
+        try {
+            WebClient jira = clients.forBaseUrl(AtlassianHttpClients.Product.JIRA, "https://jira.example.com");
+            assertSame(jira, clients.forBaseUrl(AtlassianHttpClients.Product.JIRA, "https://jira.example.com"));
+            assertNotSame(jira, clients.forBaseUrl(AtlassianHttpClients.Product.CONFLUENCE, "https://confluence.example.com"));
+            // Server/DC: 두 제품이 같은 호스트에 있어도 격리 단위는 따로
+            assertNotSame(jira, clients.forBaseUrl(AtlassianHttpClients.Product.CONFLUENCE, "https://jira.example.com"));
+        } finally {
+            clients.destroy();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.atlassian.mcp.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetFilterTest {
+
+    private final ConditionalGetFilter filter =
+        new ConditionalGetFilter("jira.example.com", 10, 1024, 4096, Duration.ofMinutes(1));
+
+    private final List<ClientRequest> sent = new ArrayList<>();
+
+    private static ClientRequest get(String token) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/project"))
+            .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+            .build();
+    }
+
+    /** 검증자가 오면 304, 아니면 ETag 가 붙은 200 을 돌려주는 업스트림. */
+    private ExchangeFunction upstream(String body, String etag) {
+        return request -> {
+            sent.add(request);
+            if (etag.equals(request.headers().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, etag)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body(body)
+                .build());
+        };
+    }
+
+    private String read(ClientRequest request, ExchangeFunction next) {
+        return filter.filter(request, next).flatMap(r -> r.bodyToMono(String.class)).block();
+    }
+
+    @Test
+    void testNotModifiedIsServedFromRememberedBody() {
+        ExchangeFunction next = upstream("[{\"key\":\"P\"}]", "\"v1\"");
+
+        assertEquals("[{\"key\":\"P\"}]", read(get("token"), next));
+        ClientResponse revalidated = filter.filter(get("token"), next).block();
+
+        assertEquals(HttpStatus.OK, revalidated.statusCode());
+        assertEquals("application/json", revalidated.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        assertEquals("[{\"key\":\"P\"}]", revalidated.bodyToMono(String.class).block());
+        assertNull(sent.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"v1\"", sent.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(1, filter.getRevalidated());
+    }
+
+    @Test
+    void testReleasingConsumedBodyKeepsRememberedCopy() {
+        AtomicBoolean consumed = new AtomicBoolean();
+        ExchangeFunction next = request -> {
+            sent.add(request);
+            if (request.headers().getFirst(HttpHeaders.IF_NONE_MATCH) != null) {
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+            }
+            // 네트워크 본문처럼 한 번만 읽힌다
+            Flux<DataBuffer> once = Flux.defer(() -> consumed.getAndSet(true) ? Flux.empty()
+                : Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("[1]".getBytes(StandardCharsets.UTF_8))));
+            return Mono.just(ClientResponse.create(HttpStatus.OK).header(HttpHeaders.ETAG, "\"v1\"").body(once).build());
+        };
+
+        ClientResponse first = filter.filter(get("token"), next).block();
+        assertEquals("[1]", first.bodyToMono(String.class).block());
+        // SingleflightFilter 처럼 읽은 응답의 본문을 바꾸면 기존 본문이 다시 구독되어 해제된다
+        first.mutate().body(Flux.empty()).build();
+
+        assertEquals("[1]", read(get("token"), next));
+        assertEquals(1, filter.getRevalidated());
+    }
+
+    @Test
+    void testValidatorsAreNotSharedAcrossTokens() {
+        ExchangeFunction next = upstream("[]", "\"v1\"");
+
+        read(get("alice"), next);
+        read(get("bob"), next);
+
+        assertNull(sent.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(0, filter.getRevalidated());
+    }
+
+    @Test
+    void testLastModifiedIsSentAsIfModifiedSince() {
+        String lastModified = "Wed, 14 Oct 2026 10:00:00 GMT";
+        ExchangeFunction next = request -> {
+            sent.add(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.LAST_MODIFIED, lastModified)
+                .body("[]")
+                .build());
+        };
+
+        read(get("token"), next);
+        read(get("token"), next);
+
+        assertEquals(lastModified, sent.get(1).headers().getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+        assertNull(sent.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void testOversizedBodyIsNotRemembered() {
+        String large = "x".repeat(2048);
+        ExchangeFunction next = upstream(large, "\"v1\"");
+
+        assertEquals(large, read(get("token"), next));
+        assertEquals(large, read(get("token"), next));
+
+        assertNull(sent.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(0, filter.getStats().size());
+    }
+
+    @Test
+    void testErrorResponseForgetsValidators() {
+        ExchangeFunction ok = upstream("[]", "\"v1\"");
+        read(get("token"), ok);
+        assertEquals(1, filter.getStats().size());
+
+        ExchangeFunction forbidden = request -> {
+            sent.add(request);
+            return Mono.just(ClientResponse.create(HttpStatus.FORBIDDEN).build());
+        };
+        filter.filter(get("token"), forbidden).block();
+        read(get("token"), ok);
+
+        assertNull(sent.get(2).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(0, filter.getRevalidated());
+    }
+}
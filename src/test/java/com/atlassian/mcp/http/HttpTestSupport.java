@@ -0,0 +1,50 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * 테스트용 HTTP 계층 구성 (짧은 백오프·넉넉한 속도 제한).
+ */
+public final class HttpTestSupport {
+
+    private HttpTestSupport() {
+    }
+
+    public static RetryPolicy retryPolicy() {
+        return new RetryPolicy(true, 3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(1),
+            0.1, 10, "GET,HEAD,OPTIONS");
+    }
+
+    public static RateLimitPolicy rateLimitPolicy(double tenantRate, int tenantBurst, double tokenRate, int tokenBurst,
+                                                  Duration maxWait) {
+        return new RateLimitPolicy(true, tenantRate, 0.5, 1000, tenantBurst, tokenRate, 0.5, 1000, tokenBurst,
+            maxWait, 0.5, 0.9, 1, 0.1, Duration.ofSeconds(1), Duration.ofSeconds(60), 100, Duration.ofMinutes(10));
+    }
+
+    public static UpstreamGuardPolicy upstreamGuardPolicy(int maxConcurrent, int maxQueued) {
+        return new UpstreamGuardPolicy(true, maxConcurrent, maxConcurrent, maxConcurrent, maxQueued,
+            4, 4, 0.5, Duration.ofMillis(500), 0.8, Duration.ofSeconds(30), 2);
+    }
+
+    public static ResponseBufferPolicy responseBufferPolicy(long maxInMemory, long maxSize) {
+        return new ResponseBufferPolicy(new ObjectMapper(), DataSize.ofBytes(maxInMemory), DataSize.ofBytes(maxSize), "",
+            "");
+    }
+
+    public static ConditionalGetPolicy conditionalGetPolicy() {
+        return new ConditionalGetPolicy(true, 100, DataSize.ofKilobytes(64), DataSize.ofMegabytes(1),
+            Duration.ofMinutes(10));
+    }
+
+    public static AtlassianHttpClients httpClients() {
+        return new AtlassianHttpClients(WebClient.builder(), retryPolicy(),
+            rateLimitPolicy(100, 20, 20, 10, Duration.ofSeconds(5)), upstreamGuardPolicy(2, 0),
+            responseBufferPolicy(1024 * 1024, 16 * 1024 * 1024), conditionalGetPolicy(), 10, 100,
+            Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30),
+            Duration.ofSeconds(1), Duration.ofSeconds(5), true);
+    }
+}
@@ -0,0 +1,96 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonStreamDecoderTest {
+
+    private static final String SEARCH = """
+        {"expand":"schema,names","startAt":5,"maxResults":2,"total":42,
+         "names":{"summary":"Summary"},
+         "issues":[
+          {"id":"10001","key":"P-1","self":"http://jira/issue/10001",
+           "fields":{"summary":"첫 번째 이슈","status":{"name":"Open","id":"1"},
+                     "assignee":null,"labels":["a","b"],
+                     "customfield_10000":{"nested":[{"x":1},{"y":[2,3]}]}}},
+          {"id":"10002","key":"P-2","fields":{"summary":"Second","status":{"name":"Done"}}}
+         ],
+         "warningMessages":[]}
+        """;
+
+    private static final Set<String> KEEP = Set.of("key", "fields.summary", "fields.status.name", "fields.assignee.displayName");
+
+    private static List<JsonStreamDecoder.Part> decodeInChunks(String json, int chunkSize, Set<String> keep) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonStreamDecoder decoder = new JsonStreamDecoder(new JsonFactory(), "issues", keep);
+        List<JsonStreamDecoder.Part> parts = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            parts.addAll(decoder.feed(bytes, offset, Math.min(chunkSize, bytes.length - offset)));
+        }
+        parts.addAll(decoder.finish());
+        return parts;
+    }
+
+    @Test
+    void testEmitsTopLevelScalarsAndPrunedElements() {
+        List<JsonStreamDecoder.Part> parts = decodeInChunks(SEARCH, 4096, KEEP);
+
+        assertEquals(List.of("expand", "startAt", "maxResults", "total", "issues", "issues"),
+            parts.stream().map(JsonStreamDecoder.Part::field).toList());
+        assertEquals(42, parts.get(3).value().asInt());
+
+        JsonStreamDecoder.Part first = parts.get(4);
+        assertTrue(first.element());
+        assertEquals("{\"key\":\"P-1\",\"fields\":{\"summary\":\"첫 번째 이슈\",\"status\":{\"name\":\"Open\"},\"assignee\":null}}",
+            first.value().toString());
+        assertEquals("Done", parts.get(5).value().path("fields").path("status").path("name").asText());
+    }
+
+    @Test
+    void testTokensSplitAcrossChunks() {
+        // 1바이트씩 넣어 숫자·문자열·멀티바이트 문자가 조각 경계에서 잘리게 한다
+        assertEquals(decodeInChunks(SEARCH, 4096, KEEP), decodeInChunks(SEARCH, 1, KEEP));
+        assertEquals(decodeInChunks(SEARCH, 4096, null), decodeInChunks(SEARCH, 7, null));
+    }
+
+    @Test
+    void testNullKeepPathsKeepsWholeElement() {
+        List<JsonStreamDecoder.Part> parts = decodeInChunks(SEARCH, 64, null);
+
+        assertEquals(3, parts.get(4).value().path("fields").path("customfield_10000").path("nested").path(1)
+            .path("y").path(1).asInt());
+    }
+
+    @Test
+    void testTruncatedResponseFails() {
+        assertThrows(RuntimeException.class, () -> decodeInChunks(SEARCH.substring(0, 200), 50, KEEP));
+    }
+
+    @Test
+    void testDecodeFluxOfDataBuffers() {
+        byte[] bytes = SEARCH.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += 100) {
+            byte[] chunk = new byte[Math.min(100, bytes.length - offset)];
+            System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+
+        List<JsonStreamDecoder.Part> parts = JsonStreamDecoder
+            .decode(Flux.fromIterable(buffers), new JsonFactory(), "issues", KEEP)
+            .collectList()
+            .block();
+
+        assertEquals(decodeInChunks(SEARCH, 4096, KEEP), parts);
+    }
+}
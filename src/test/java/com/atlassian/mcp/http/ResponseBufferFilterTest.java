@@ -0,0 +1,130 @@
+package com.atlassian.mcp.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBufferFilterTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private ResponseBufferFilter filter(String endpoints) {
+        return new ResponseBufferPolicy(new ObjectMapper(), DataSize.ofBytes(1024),
+            DataSize.ofKilobytes(64), spillDirectory.toString(), endpoints).filter();
+    }
+
+    /** 100바이트 조각으로 나눈 JSON 응답을 돌려주는 업스트림. */
+    private static ExchangeFunction upstream(String json, MediaType contentType) {
+        return request -> {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            List<DataBuffer> chunks = new ArrayList<>();
+            for (int offset = 0; offset < bytes.length; offset += 100) {
+                byte[] chunk = new byte[Math.min(100, bytes.length - offset)];
+                System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+                chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, contentType.toString())
+                .body(Flux.fromIterable(chunks))
+                .build());
+        };
+    }
+
+    private static String fieldsJson(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":\"customfield_").append(i).append("\",\"name\":\"Field ")
+                .append(i).append("\"}");
+        }
+        return json.append("]").toString();
+    }
+
+    private static ClientRequest get(String path) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("http://jira" + path)).build();
+    }
+
+    private long spilledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testSmallResponseParsedInMemory() throws IOException {
+        JsonNode node = filter("").filter(get("/rest/api/2/issue/P-1"), upstream("{\"key\":\"P-1\"}", MediaType.APPLICATION_JSON))
+            .flatMap(response -> response.bodyToMono(JsonNode.class))
+            .block();
+
+        assertEquals("P-1", node.path("key").asText());
+        assertEquals(0, spilledFiles());
+    }
+
+    @Test
+    void testResponseOverLimitSpillsToFileAndIsDeleted() throws IOException {
+        String json = fieldsJson(500);
+        assertTrue(json.length() > 1024 * 10);
+
+        JsonNode node = filter("").filter(get("/rest/api/2/field"), upstream(json, MediaType.APPLICATION_JSON))
+            .flatMap(response -> response.bodyToMono(JsonNode.class))
+            .block();
+
+        assertEquals(500, node.size());
+        assertEquals("Field 499", node.get(499).path("name").asText());
+        assertEquals(0, spilledFiles());
+    }
+
+    @Test
+    void testEndpointLimitOverridesDefault() {
+        ResponseBufferPolicy policy = new ResponseBufferPolicy(new ObjectMapper(),
+            DataSize.ofBytes(1024), DataSize.ofMegabytes(1), "", "/rest/api/2/field=64KB, /rest/api/2/field/x=2KB");
+
+        assertEquals(64 * 1024, policy.maxInMemoryFor("/rest/api/2/field"));
+        assertEquals(2 * 1024, policy.maxInMemoryFor("/rest/api/2/field/x/y"));
+        assertEquals(1024, policy.maxInMemoryFor("/rest/api/2/issue/P-1"));
+    }
+
+    @Test
+    void testResponseOverMaxSizeFails() throws IOException {
+        Mono<JsonNode> body = filter("").filter(get("/rest/api/2/field"), upstream(fieldsJson(5000), MediaType.APPLICATION_JSON))
+            .flatMap(response -> response.bodyToMono(JsonNode.class));
+
+        DataBufferLimitException error = assertThrows(DataBufferLimitException.class, body::block);
+        assertTrue(error.getMessage().contains("/rest/api/2/field"));
+        assertEquals(0, spilledFiles());
+    }
+
+    @Test
+    void testNonJsonBodiesUseDefaultCodecs() {
+        String text = filter("").filter(get("/rest/api/2/issue/P-1"), upstream("plain", MediaType.TEXT_PLAIN))
+            .flatMap(response -> response.bodyToMono(String.class))
+            .block();
+
+        assertEquals("plain", text);
+    }
+}
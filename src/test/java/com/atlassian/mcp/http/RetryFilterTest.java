@@ -0,0 +1,123 @@
+package com.atlassian.mcp.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryFilterTest {
+
+    private static RetryPolicy policy(int budgetReserve) {
+        return new RetryPolicy(true, 3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(1),
+            0.1, budgetReserve, "GET,HEAD,OPTIONS");
+    }
+
+    private static ExchangeFunction responses(AtomicInteger calls, HttpStatus... statuses) {
+        Deque<HttpStatus> queue = new ArrayDeque<>(java.util.List.of(statuses));
+        return request -> {
+            calls.incrementAndGet();
+            HttpStatus status = queue.size() > 1 ? queue.poll() : queue.peek();
+            return Mono.just(ClientResponse.create(status).build());
+        };
+    }
+
+    private static ClientRequest request(HttpMethod method) {
+        return ClientRequest.create(method, URI.create("http://jira/rest/api/2/issue/P-1")).build();
+    }
+
+    @Test
+    void testRetriesIdempotentRequestUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = responses(calls, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.TOO_MANY_REQUESTS, HttpStatus.OK);
+
+        ClientResponse response = policy(10).filterFor("jira").filter(request(HttpMethod.GET), next).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testDoesNotRetryNonIdempotentMethod() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = responses(calls, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.OK);
+
+        ClientResponse response = policy(10).filterFor("jira").filter(request(HttpMethod.POST), next).block();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.statusCode());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testReadOnlyPostIsRetriedWhenMarkedIdempotent() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = responses(calls, HttpStatus.BAD_GATEWAY, HttpStatus.OK);
+        ClientRequest search = ClientRequest.create(HttpMethod.POST, URI.create("http://jira/rest/api/2/search"))
+            .attribute(AtlassianHttpClients.IDEMPOTENT_ATTRIBUTE, true)
+            .build();
+
+        assertEquals(HttpStatus.OK, policy(10).filterFor("jira").filter(search, next).block().statusCode());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testReturnsLastResponseWhenRetriesExhausted() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = responses(calls, HttpStatus.SERVICE_UNAVAILABLE);
+
+        ClientResponse response = policy(10).filterFor("jira").filter(request(HttpMethod.GET), next).block();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.statusCode());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testRetriesConnectionErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = request -> calls.incrementAndGet() == 1
+            ? Mono.error(new ConnectException("Connection refused"))
+            : Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+        assertEquals(HttpStatus.OK, policy(10).filterFor("jira").filter(request(HttpMethod.GET), next).block().statusCode());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testBudgetLimitsRetryAmplification() {
+        RetryFilter filter = policy(2).filterFor("jira");
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = responses(calls, HttpStatus.SERVICE_UNAVAILABLE);
+
+        for (int i = 0; i < 10; i++) {
+            filter.filter(request(HttpMethod.GET), next).block();
+        }
+
+        // 요청 10건 + 초기 예산 2건의 재시도 (이후 적립 0.1 x 8 은 재시도 1건에 못 미침)
+        assertEquals(12, calls.get());
+        assertTrue(filter.getBudget().getBalance() < 1.0);
+    }
+
+    @Test
+    void testParseRetryAfter() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        assertEquals(Duration.ofSeconds(7), RetryPolicy.parseRetryAfter("7", clock));
+        assertEquals(Duration.ofSeconds(90), RetryPolicy.parseRetryAfter("Mon, 01 Jan 2024 00:01:30 GMT", clock));
+        assertEquals(Duration.ZERO, RetryPolicy.parseRetryAfter("Sun, 31 Dec 2023 23:00:00 GMT", clock));
+        assertNull(RetryPolicy.parseRetryAfter("soon", clock));
+        assertNull(RetryPolicy.parseRetryAfter(null, clock));
+    }
+}
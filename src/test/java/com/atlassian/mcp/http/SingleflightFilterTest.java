@@ -0,0 +1,102 @@
+package com.atlassian.mcp.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleflightFilterTest {
+
+    private final SingleflightFilter filter = new SingleflightFilter("jira.example.com", path -> 1024);
+
+    private static ClientRequest get(String token) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("http://jira/rest/api/2/issue/P-1"))
+            .attribute(AtlassianHttpClients.TOKEN_ATTRIBUTE, token)
+            .build();
+    }
+
+    @Test
+    void testConcurrentIdenticalGetsShareOneUpstreamCall() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<ClientResponse> upstream = Sinks.one();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        Mono<String> first = filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).cache();
+        Mono<String> second = filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).cache();
+        first.subscribe();
+        second.subscribe();
+        upstream.tryEmitValue(ClientResponse.create(HttpStatus.OK).body("{\"key\":\"P-1\"}").build());
+
+        assertEquals("{\"key\":\"P-1\"}", first.block());
+        assertEquals("{\"key\":\"P-1\"}", second.block());
+        assertEquals(1, calls.get());
+        assertEquals(1, filter.getCoalesced());
+    }
+
+    @Test
+    void testDifferentTokensAreNotCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<ClientResponse> upstream = Sinks.one();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        filter.filter(get("alice"), next).subscribe();
+        filter.filter(get("bob"), next).subscribe();
+
+        assertEquals(2, calls.get());
+        assertEquals(0, filter.getCoalesced());
+    }
+
+    @Test
+    void testCompletedRequestIsNotReused() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build());
+        };
+
+        assertEquals("ok", filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).block());
+        assertEquals("ok", filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).block());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testOversizedResponseFallsBackToSeparateRequests() {
+        AtomicInteger calls = new AtomicInteger();
+        String large = "x".repeat(2048);
+        Sinks.One<ClientResponse> upstream = Sinks.one();
+        ExchangeFunction next = request -> {
+            // 첫 요청은 공유 대기, 이후(한도 초과 후 재요청)는 즉시 응답
+            return calls.incrementAndGet() == 1 ? upstream.asMono()
+                : Mono.just(ClientResponse.create(HttpStatus.OK).body(large).build());
+        };
+
+        Mono<String> first = filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).cache();
+        Mono<String> second = filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).cache();
+        first.subscribe();
+        second.subscribe();
+        upstream.tryEmitValue(ClientResponse.create(HttpStatus.OK).body(large).build());
+
+        assertEquals(large, first.block());
+        assertEquals(large, second.block());
+        assertEquals(3, calls.get());
+
+        // 한도를 넘은 경로는 한동안 병합하지 않는다
+        filter.filter(get("token"), next).flatMap(r -> r.bodyToMono(String.class)).block();
+        assertEquals(4, calls.get());
+    }
+}
@@ -0,0 +1,152 @@
+package com.atlassian.mcp.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private static ClientRequest get(String path) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("http://jira" + path)).build();
+    }
+
+    private static ExchangeFunction status(HttpStatus status, AtomicInteger calls) {
+        return request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(status).build());
+        };
+    }
+
+    /** 본문까지 해제해 허용량을 돌려준 뒤 상태 코드. */
+    private static HttpStatus send(UpstreamGuardFilter filter, ClientRequest request, ExchangeFunction next) {
+        return filter.filter(request, next)
+            .flatMap(response -> response.releaseBody().thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+            .block();
+    }
+
+    @Test
+    void testBreakerOpensOnFailuresAndFailsFast() {
+        UpstreamGuardFilter filter = HttpTestSupport.upstreamGuardPolicy(2, 0)
+            .filterFor(AtlassianHttpClients.Product.JIRA, clock::get);
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction failing = status(HttpStatus.SERVICE_UNAVAILABLE, calls);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, send(filter, get("/rest/api/2/issue/P-1"), failing));
+        }
+        UpstreamUnavailableException error = assertThrows(UpstreamUnavailableException.class,
+            () -> filter.filter(get("/rest/api/2/issue/P-1"), failing).block());
+        assertEquals("jira-core", error.getUpstream());
+        assertEquals(4, calls.get());
+
+        // jira-agile 은 별도 브레이커
+        assertEquals(HttpStatus.OK, send(filter, get("/rest/agile/1.0/board"), status(HttpStatus.OK, calls)));
+    }
+
+    @Test
+    void testBreakerClosesAfterSuccessfulTrialCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 0.5, 0.8, Duration.ofSeconds(30), 2, clock::get);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(true, false);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onResult(false, false);
+        breaker.onResult(false, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testSlowCallsOpenBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 0.5, 0.75, Duration.ofSeconds(30), 1, clock::get);
+        for (int i = 0; i < 3; i++) {
+            breaker.onResult(false, true);
+        }
+        breaker.onResult(false, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testBulkheadIsolatesUpstreams() {
+        UpstreamGuardFilter filter = HttpTestSupport.upstreamGuardPolicy(2, 0)
+            .filterFor(AtlassianHttpClients.Product.JIRA, clock::get);
+        Sinks.One<ClientResponse> hanging = Sinks.one();
+        ExchangeFunction slow = request -> hanging.asMono();
+
+        Disposable first = filter.filter(get("/rest/agile/1.0/board/1"), slow).subscribe();
+        Disposable second = filter.filter(get("/rest/agile/1.0/board/2"), slow).subscribe();
+        assertThrows(UpstreamUnavailableException.class, () -> filter.filter(get("/rest/agile/1.0/board/3"), slow).block());
+
+        // 느린 Agile 호출이 Jira core 호출을 막지 않는다
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals(HttpStatus.OK, send(filter, get("/rest/api/2/issue/P-1"), status(HttpStatus.OK, calls)));
+
+        // 취소하면 허용량이 반납된다
+        first.dispose();
+        second.dispose();
+        assertEquals(0, filter.getGuards().get(1).bulkhead().getInUse());
+    }
+
+    @Test
+    void testPermitIsHeldUntilBodyIsConsumed() {
+        UpstreamGuardFilter filter = HttpTestSupport.upstreamGuardPolicy(1, 0)
+            .filterFor(AtlassianHttpClients.Product.CONFLUENCE, clock::get);
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        ExchangeFunction slowBody = request -> Mono.just(ClientResponse.create(HttpStatus.OK).body(body.asFlux()).build());
+        Bulkhead bulkhead = filter.getGuards().get(0).bulkhead();
+
+        // 헤더는 도착했지만 본문이 아직 오는 중
+        ClientResponse page = filter.filter(get("/rest/api/content/1"), slowBody).block();
+        var reading = page.bodyToMono(String.class).toFuture();
+        assertEquals(1, bulkhead.getInUse());
+        assertThrows(UpstreamUnavailableException.class, () -> filter.filter(get("/rest/api/content/2"), slowBody).block());
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("<p>page</p>".getBytes(StandardCharsets.UTF_8)));
+        body.tryEmitComplete();
+        assertEquals("<p>page</p>", reading.join());
+        assertEquals(0, bulkhead.getInUse());
+    }
+
+    @Test
+    void testBulkheadQueuesUpToLimit() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+        Sinks.One<String> release = Sinks.one();
+
+        Disposable running = bulkhead.execute(p -> release.asMono(), b -> new IllegalStateException("full")).subscribe();
+        AtomicInteger queuedRan = new AtomicInteger();
+        Disposable queued = bulkhead.execute(p -> Mono.fromRunnable(queuedRan::incrementAndGet), b -> new IllegalStateException("full")).subscribe();
+        assertEquals(1, bulkhead.getQueued());
+        assertThrows(IllegalStateException.class,
+            () -> bulkhead.execute(p -> Mono.just("x"), b -> new IllegalStateException("full")).block());
+
+        release.tryEmitValue("done");
+        assertEquals(1, queuedRan.get());
+        assertEquals(0, bulkhead.getInUse());
+        running.dispose();
+        queued.dispose();
+    }
+}
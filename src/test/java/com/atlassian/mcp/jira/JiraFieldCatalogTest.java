@@ -0,0 +1,98 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JiraFieldCatalogTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static JsonNode fields(String... idAndNames) {
+        ArrayNode array = MAPPER.createArrayNode();
+        for (int i = 0; i < idAndNames.length; i += 2) {
+            array.addObject()
+                    .put("id", idAndNames[i])
+                    .put("name", idAndNames[i + 1])
+                    .put("custom", idAndNames[i].startsWith("customfield_"));
+        }
+        return array;
+    }
+
+    private static List<String> ids(List<JiraFieldIndex.Field> fields) {
+        return fields.stream().map(JiraFieldIndex.Field::id).toList();
+    }
+
+    private final JiraFieldIndex index = JiraFieldIndex.of(fields(
+            "customfield_10010", "Sprint Goal",
+            "summary", "Summary",
+            "customfield_10020", "Sprint",
+            "customfield_10030", "Story Points",
+            "duedate", "Due Date"));
+
+    @Test
+    void testExactAndPrefixMatchesRankBeforeSubstring() {
+        assertEquals(List.of("customfield_10020", "customfield_10010"), ids(index.search("sprint", 10)));
+        assertEquals(List.of("customfield_10030"), ids(index.search("POINTS", 10)));
+        assertEquals(List.of("summary"), ids(index.search("summary", 10)));
+    }
+
+    @Test
+    void testFuzzyMatchesFollowSubstringMatches() {
+        // 오타: "stroy points" 는 부분 문자열이 아니지만 trigram 대부분이 겹친다
+        assertEquals(List.of("customfield_10030"), ids(index.search("stroy points", 10)));
+        assertTrue(index.search("zzzz", 10).isEmpty());
+    }
+
+    @Test
+    void testShortAndBlankKeywords() {
+        assertEquals(List.of("duedate"), ids(index.search("du", 10)));
+        assertEquals(List.of("customfield_10010", "summary"), ids(index.search("", 2)));
+        assertEquals(3, index.search("customfield", 3).size());
+    }
+
+    @Test
+    void testCatalogIsReusedUntilTtlOrRefresh() {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger fetches = new AtomicInteger();
+        JiraFieldCatalog catalog = new JiraFieldCatalog(Duration.ofMinutes(10), clock::get);
+        Supplier<Mono<JsonNode>> fetch = () -> Mono.fromCallable(() -> {
+            fetches.incrementAndGet();
+            return fields("summary", "Summary");
+        });
+
+        catalog.get(fetch, false).block();
+        catalog.get(fetch, false).block();
+        assertEquals(1, fetches.get());
+
+        catalog.get(fetch, true).block();
+        assertEquals(2, fetches.get());
+
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        assertEquals(1, catalog.get(fetch, false).block().size());
+        assertEquals(3, fetches.get());
+    }
+
+    @Test
+    void testExpiredCatalogIsKeptWhenReloadFails() {
+        AtomicLong clock = new AtomicLong();
+        JiraFieldCatalog catalog = new JiraFieldCatalog(Duration.ofMinutes(10), clock::get);
+        catalog.get(() -> Mono.just(fields("summary", "Summary")), false).block();
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        Mono<JsonNode> failing = Mono.error(new IllegalStateException("503"));
+        assertEquals(1, catalog.get(() -> failing, false).block().size());
+        // refresh 는 실패를 그대로 알린다
+        assertThrows(IllegalStateException.class, () -> catalog.get(() -> failing, true).block());
+    }
+}
@@ -0,0 +1,226 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JiraIssueCacheTest {
+
+    private static final String JIRA = "https://jira.example.com";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JiraIssueCache cache = new JiraIssueCache(true, 100, Duration.ofMinutes(5), Duration.ofSeconds(60),
+            System::nanoTime);
+    private final List<String> fetchedFields = new ArrayList<>();
+    private final List<String> permissionChecks = new ArrayList<>();
+    private String updated = "2026-10-14T10:00:00.000+0000";
+    private String security = null;
+    // false 면 호출자에게 security 필드가 숨겨진 것처럼 응답에서 뺀다
+    private boolean securityVisible = true;
+
+    private JsonNode issue() {
+        ObjectNode issue = MAPPER.createObjectNode().put("key", "P-1");
+        ObjectNode fields = issue.putObject("fields").put("summary", "Hello").put("updated", updated);
+        fields.putObject("project").put("key", "P");
+        fields.putObject("assignee").put("self", JIRA + "/rest/api/2/user?username=alice")
+                .put("name", "alice").put("displayName", "Alice").put("emailAddress", "alice@example.com");
+        ObjectNode names = issue.putObject("names").put("summary", "Summary");
+        if (!securityVisible) {
+            return issue;
+        }
+        names.put("security", "Security Level");
+        if (security != null) {
+            fields.putObject("security").put("name", security);
+        } else {
+            fields.putNull("security");
+        }
+        return issue;
+    }
+
+    private final BiFunction<String, String, Mono<JsonNode>> fetch = (fields, expand) -> {
+        fetchedFields.add(fields);
+        assertEquals("names", expand);
+        return Mono.fromCallable(this::issue);
+    };
+
+    private Function<String, Mono<Boolean>> canBrowse(boolean allowed) {
+        return project -> {
+            permissionChecks.add(project);
+            return Mono.just(allowed);
+        };
+    }
+
+    private JsonNode get(String token, String fields, Function<String, Mono<Boolean>> canBrowse) {
+        return cache.scope(JIRA, token).get("P-1", fields, null, fetch, canBrowse).block();
+    }
+
+    @Test
+    void testIssueIsSharedAfterPermissionCheck() {
+        JsonNode first = get("alice", "summary", canBrowse(true));
+        assertEquals(List.of("summary,updated,project,security"), fetchedFields);
+        // 덧붙인 필드와 확장은 응답에서 뺀다
+        assertFalse(first.path("fields").has("project"));
+        assertFalse(first.has("names"));
+        assertEquals("Hello", first.path("fields").path("summary").asText());
+        // 직접 받은 토큰은 권한 확인 없이 재사용
+        get("alice", "summary", canBrowse(true));
+        assertTrue(permissionChecks.isEmpty());
+
+        assertEquals("Hello", get("bob", "summary", canBrowse(true)).path("fields").path("summary").asText());
+        get("bob", "summary", canBrowse(true));
+
+        assertEquals(1, fetchedFields.size());
+        assertEquals(List.of("P"), permissionChecks);
+        assertEquals(3, cache.getSharedHits());
+    }
+
+    @Test
+    void testDeniedTokenFetchesWithItsOwnCredentials() {
+        get("alice", "summary", canBrowse(true));
+        BiFunction<String, String, Mono<JsonNode>> notFound =
+                (fields, expand) -> Mono.error(new IllegalStateException("404"));
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.scope(JIRA, "mallory").get("P-1", "summary", null, notFound, canBrowse(false)).block());
+        assertEquals(0, cache.getSharedHits());
+    }
+
+    @Test
+    void testUserRelativeAndSecuredIssuesAreNotShared() {
+        assertFalse(JiraIssueCache.isShareable("summary,comment", null));
+        assertFalse(JiraIssueCache.isShareable("*all", null));
+        assertFalse(JiraIssueCache.isShareable(null, null));
+        assertFalse(JiraIssueCache.isShareable("summary", "renderedFields,transitions"));
+        assertTrue(JiraIssueCache.isShareable("summary,status", "renderedFields"));
+
+        security = "Internal";
+        get("alice", "summary", canBrowse(true));
+        get("alice", "summary", canBrowse(true));
+        assertEquals(2, fetchedFields.size());
+    }
+
+    @Test
+    void testIssueWithHiddenSecurityFieldIsNotShared() {
+        securityVisible = false;
+        get("alice", "summary", canBrowse(true));
+        get("bob", "summary", canBrowse(true));
+
+        assertEquals(2, fetchedFields.size());
+        assertEquals(0, cache.getSharedHits());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void testSharedCopyKeepsOnlyPublicUserProperties() {
+        JsonNode own = get("alice", "summary,assignee", canBrowse(true));
+        assertEquals("alice@example.com", own.path("fields").path("assignee").path("emailAddress").asText());
+
+        JsonNode shared = get("bob", "summary,assignee", canBrowse(true));
+        assertEquals("Alice", shared.path("fields").path("assignee").path("displayName").asText());
+        assertFalse(shared.path("fields").path("assignee").has("emailAddress"));
+        assertEquals(1, fetchedFields.size());
+    }
+
+    @Test
+    void testWritesAndNewerVersionsReplaceEntries() {
+        get("alice", "summary", canBrowse(true));
+        get("alice", "summary,status", canBrowse(true));
+        // 변형은 이슈 항목 하나 아래에 모인다
+        assertEquals(1, cache.stats().size());
+        assertEquals(2, cache.stats().weight());
+
+        cache.scope(JIRA, "bob").invalidate("p-1");
+        get("alice", "summary", canBrowse(true));
+        assertEquals(3, fetchedFields.size());
+
+        // 다른 변형에서 새 updated 를 받으면 이전 버전의 변형도 지운다
+        get("alice", "summary,status", canBrowse(true));
+        updated = "2026-10-15T09:00:00.000+0000";
+        get("alice", "summary,assignee", canBrowse(true));
+        get("alice", "summary", canBrowse(true));
+        assertEquals(6, fetchedFields.size());
+        get("alice", "summary,assignee", canBrowse(true));
+        assertEquals(6, fetchedFields.size());
+    }
+
+    @Test
+    void testFetchStartedBeforeInvalidationIsNotStored() {
+        Sinks.One<JsonNode> slow = Sinks.one();
+        Mono<JsonNode> pending = cache.scope(JIRA, "alice")
+                .get("P-1", "summary", null, (fields, expand) -> slow.asMono(), canBrowse(true))
+                .cache();
+        pending.subscribe();
+
+        cache.scope(JIRA, "bob").invalidate("P-1");
+        slow.tryEmitValue(issue());
+        pending.block();
+
+        get("alice", "summary", canBrowse(true));
+        assertEquals(1, fetchedFields.size());
+        assertEquals(0, cache.getSharedHits());
+    }
+
+    @Test
+    void testEachHitGetsItsOwnCopy() {
+        get("alice", "summary", canBrowse(true));
+        ObjectNode changed = (ObjectNode) get("bob", "summary", canBrowse(true));
+        ((ObjectNode) changed.path("fields")).put("summary", "Changed by a tool");
+
+        assertEquals("Hello", get("carol", "summary", canBrowse(true)).path("fields").path("summary").asText());
+        assertEquals(2, cache.getSharedHits());
+    }
+
+    @Test
+    void testLinkChangesInvalidateLinkedIssues() {
+        List<String> requests = new ArrayList<>();
+        WebClient webClient = WebClient.builder().exchangeFunction(request -> {
+            requests.add(request.method() + " " + request.url().getPath());
+            String path = request.url().getPath();
+            if (request.method() == HttpMethod.GET && path.equals("/rest/api/2/issue/P-1")) {
+                return Mono.just(json(issue().toString()));
+            }
+            if (request.method() == HttpMethod.GET && path.startsWith("/rest/api/2/issueLink/")) {
+                return Mono.just(json("{\"inwardIssue\":{\"key\":\"P-1\"},\"outwardIssue\":{\"key\":\"P-2\"}}"));
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build());
+        }).build();
+        JiraClient client = new JiraClient(webClient, "alice", MAPPER, JiraReferenceCache.Scope.none(),
+                cache.scope(JIRA, "alice"));
+
+        client.getIssue("P-1", "summary", null).block();
+        client.getIssue("P-1", "summary", null).block();
+        client.createIssueLink(Map.of("type", Map.of("name", "Blocks"),
+                "inwardIssue", Map.of("key", "P-1"), "outwardIssue", Map.of("key", "P-2"))).block();
+        client.getIssue("P-1", "summary", null).block();
+        client.removeIssueLink("10001").block();
+        client.getIssue("P-1", "summary", null).block();
+
+        assertEquals(3, requests.stream().filter(r -> r.equals("GET /rest/api/2/issue/P-1")).count(), requests.toString());
+        assertTrue(requests.contains("DELETE /rest/api/2/issueLink/10001"));
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
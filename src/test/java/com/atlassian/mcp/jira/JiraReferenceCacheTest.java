@@ -0,0 +1,88 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JiraReferenceCacheTest {
+
+    private static final String JIRA = "https://jira.example.com";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final JiraReferenceCache cache = new JiraReferenceCache(true, 100,
+            Map.of(JiraReferenceCache.Type.PROJECTS, Duration.ofMinutes(10),
+                    JiraReferenceCache.Type.SPRINTS, Duration.ofMinutes(1)),
+            Duration.ofMinutes(30), clock::get);
+
+    /** 호출마다 번호가 붙은 값을 돌려주는 조회. */
+    private final Supplier<Mono<JsonNode>> loader =
+            () -> Mono.fromCallable(() -> TextNode.valueOf("v" + fetches.incrementAndGet()));
+
+    private String get(JiraReferenceCache.Scope scope, JiraReferenceCache.Type type, String args) {
+        return scope.get(type, args, loader).block().asText();
+    }
+
+    @Test
+    void testFreshValueIsReusedWithinScope() {
+        JiraReferenceCache.Scope alice = cache.scope(JIRA, "alice");
+
+        assertEquals("v1", get(alice, JiraReferenceCache.Type.PROJECTS, ""));
+        assertEquals("v1", get(alice, JiraReferenceCache.Type.PROJECTS, ""));
+        // 다른 토큰은 권한 범위가 다르므로 따로 조회
+        assertEquals("v2", get(cache.scope(JIRA, "bob"), JiraReferenceCache.Type.PROJECTS, ""));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void testStaleValueIsServedWhileRefreshing() {
+        JiraReferenceCache.Scope alice = cache.scope(JIRA, "alice");
+        get(alice, JiraReferenceCache.Type.PROJECTS, "");
+
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        assertEquals("v1", get(alice, JiraReferenceCache.Type.PROJECTS, ""));
+        assertEquals(1, cache.getStaleHits());
+        assertEquals("v2", get(alice, JiraReferenceCache.Type.PROJECTS, ""));
+
+        // staleWhileRevalidate 도 지나면 기다려서 다시 받는다
+        clock.addAndGet(Duration.ofMinutes(45).toNanos());
+        assertEquals("v3", get(alice, JiraReferenceCache.Type.PROJECTS, ""));
+    }
+
+    @Test
+    void testInvalidationAppliesToAllScopes() {
+        JiraReferenceCache.Scope alice = cache.scope(JIRA, "alice");
+        JiraReferenceCache.Scope bob = cache.scope(JIRA, "bob");
+        get(alice, JiraReferenceCache.Type.SPRINTS, "10|active|0|50");
+        get(bob, JiraReferenceCache.Type.SPRINTS, "10|null|0|50");
+        get(alice, JiraReferenceCache.Type.SPRINTS, "11|active|0|50");
+
+        bob.invalidate(JiraReferenceCache.Type.SPRINTS, "10");
+
+        assertEquals("v4", get(alice, JiraReferenceCache.Type.SPRINTS, "10|active|0|50"));
+        assertEquals("v5", get(bob, JiraReferenceCache.Type.SPRINTS, "10|null|0|50"));
+        assertEquals("v3", get(alice, JiraReferenceCache.Type.SPRINTS, "11|active|0|50"));
+    }
+
+    @Test
+    void testUnconfiguredTypeAndErrorsAreNotCached() {
+        JiraReferenceCache.Scope alice = cache.scope(JIRA, "alice");
+        get(alice, JiraReferenceCache.Type.LINK_TYPES, "");
+        get(alice, JiraReferenceCache.Type.LINK_TYPES, "");
+        assertEquals(2, fetches.get());
+
+        Supplier<Mono<JsonNode>> failing = () -> Mono.error(new IllegalStateException("401"));
+        assertThrows(IllegalStateException.class,
+                () -> alice.get(JiraReferenceCache.Type.PROJECTS, "", failing).block());
+        assertEquals("v3", get(alice, JiraReferenceCache.Type.PROJECTS, ""));
+    }
+}
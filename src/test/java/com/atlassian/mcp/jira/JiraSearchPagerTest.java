@@ -0,0 +1,186 @@
+package com.atlassian.mcp.jira;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JiraClient.searchAll 페이지 넘김 테스트 (가짜 Jira 응답).
+ */
+class JiraSearchPagerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private JiraClient client(Function<JsonNode, ClientResponse> handler) {
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> body(request).map(json -> {
+                requests.add(request.url().getPath() + " " + json);
+                return handler.apply(json);
+            }))
+            .build();
+        return new JiraClient(webClient, "token", mapper);
+    }
+
+    /** 요청 본문(JSON)을 꺼낸다. 검색 요청은 모두 bodyValue 로 보낸다. */
+    private Mono<JsonNode> body(ClientRequest request) {
+        MockClientHttpRequest captured = new MockClientHttpRequest(request.method(), request.url());
+        BodyInserter.Context context = new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return ExchangeStrategies.withDefaults().messageWriters();
+            }
+
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        };
+        return request.body().insert(captured, context)
+            .then(Mono.defer(captured::getBodyAsString))
+            .map(json -> {
+                try {
+                    return mapper.readTree(json);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+    }
+
+    private ClientResponse json(JsonNode body) {
+        return ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body(body.toString())
+            .build();
+    }
+
+    private ObjectNode page(int from, int count) {
+        ObjectNode page = mapper.createObjectNode();
+        ArrayNode issues = page.putArray("issues");
+        for (int i = from; i < from + count; i++) {
+            issues.addObject().put("key", "P-" + i);
+        }
+        return page;
+    }
+
+    @Test
+    void testOffsetPagingFetchesRemainingPagesInOrderUpToCap() {
+        // 서버가 페이지 크기를 40 으로 제한하는 경우
+        JiraClient client = client(request -> {
+            int startAt = request.path("startAt").asInt();
+            int size = Math.min(40, request.path("maxResults").asInt());
+            return json(page(startAt, Math.min(size, 230 - startAt)).put("total", 230).put("startAt", startAt)
+                .put("maxResults", 40));
+        });
+
+        List<String> keys = client.searchAll("project = P", "summary", null, 150)
+            .map(issue -> issue.path("key").asText())
+            .collectList()
+            .block();
+
+        assertEquals(150, keys.size());
+        for (int i = 0; i < 150; i++) {
+            assertEquals("P-" + i, keys.get(i));
+        }
+        // 0, 40, 80, 120 (마지막 페이지는 30건만 요청)
+        assertEquals(4, requests.size());
+        assertTrue(requests.stream().anyMatch(r -> r.contains("\"startAt\":120") && r.contains("\"maxResults\":30")),
+            requests.toString());
+    }
+
+    @Test
+    void testFallsBackToTokenPagingWhenOffsetSearchIsGone() {
+        AtomicInteger tokenPages = new AtomicInteger();
+        JiraClient client = client(request -> {
+            if (request.has("startAt")) {
+                return ClientResponse.create(HttpStatus.GONE).build();
+            }
+            int index = tokenPages.getAndIncrement();
+            assertEquals(index == 0 ? null : "t" + index, request.path("nextPageToken").asText(null));
+            ObjectNode page = page(index * 100, 100);
+            if (index < 4) {
+                page.put("nextPageToken", "t" + (index + 1));
+            } else {
+                page.put("isLast", true);
+            }
+            return json(page);
+        });
+
+        List<JsonNode> issues = client.searchAll("project = P", null, null, 250).collectList().block();
+
+        assertEquals(250, issues.size());
+        assertEquals("P-249", issues.get(249).path("key").asText());
+        assertEquals(3, tokenPages.get());
+        assertTrue(requests.get(1).startsWith("/rest/api/2/search/jql "));
+    }
+
+    @Test
+    void testSmallResultNeedsSinglePage() {
+        JiraClient client = client(request -> json(page(0, 3).put("total", 3).put("startAt", 0).put("maxResults", 100)));
+
+        assertEquals(3, client.searchAll("key in (P-0, P-1, P-2)", null, null, 1000).count().block());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void testFetchAllIsCappedOnlyWhenMoreIssuesExist() {
+        int[] total = {5};
+        JiraClient client = client(request -> {
+            int startAt = request.path("startAt").asInt();
+            int size = Math.min(request.path("maxResults").asInt(), total[0] - startAt);
+            return json(page(startAt, size).put("total", total[0]).put("startAt", startAt).put("maxResults", 100));
+        });
+        JiraReadToolsC tools = new JiraReadToolsC(() -> client);
+        Map<String, Object> params = Map.of("jql", "project = P", "fetch_all", true, "max_issues", 5);
+
+        Map<String, Object> exact = tools.search(params).block();
+        assertEquals(5, exact.get("total"));
+        assertEquals(false, exact.get("capped"));
+
+        total[0] = 6;
+        Map<String, Object> more = tools.search(params).block();
+        assertEquals(5, more.get("total"));
+        assertEquals(5, ((List<?>) more.get("issues")).size());
+        assertEquals(true, more.get("capped"));
+    }
+
+    @Test
+    void testFetchAllValidatesMaxIssues() {
+        JiraClient client = client(request -> json(page(0, 0).put("total", 0).put("startAt", 0).put("maxResults", 100)));
+        JiraReadToolsC tools = new JiraReadToolsC(() -> client);
+
+        assertThrows(IllegalArgumentException.class, () -> tools.search(
+            Map.of("jql", "project = P", "fetch_all", true, "max_issues", 0)).block());
+        // int 범위를 넘는 값은 잘라 쓴다 (int 캐스트로 음수가 되지 않게)
+        tools.search(Map.of("jql", "project = P", "fetch_all", true, "max_issues", 4_294_967_297L)).block();
+        assertTrue(requests.get(0).contains("\"maxResults\":100"), requests.toString());
+    }
+}
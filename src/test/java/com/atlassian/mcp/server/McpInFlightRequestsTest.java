@@ -0,0 +1,77 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.McpResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpInFlightRequestsTest {
+
+    @Test
+    void testCancelDisposesUpstreamAndCompletesEmpty() {
+        McpInFlightRequests inFlight = new McpInFlightRequests();
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Mono<McpResponse> never = Mono.<McpResponse>never().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Mono<McpResponse> tracked = inFlight.track("session-1", 7, never);
+        var pending = tracked.toFuture();
+
+        // 숫자 id 는 Integer/Long 어느 쪽으로 와도 같은 요청
+        assertTrue(inFlight.cancel("session-1", 7L, "user aborted"));
+        assertNull(pending.join());
+        assertTrue(upstreamCancelled.get());
+        assertEquals(0, inFlight.size());
+    }
+
+    @Test
+    void testCancelIsScopedToSession() {
+        McpInFlightRequests inFlight = new McpInFlightRequests();
+        var pending = inFlight.track("session-1", "a", Mono.<McpResponse>never()).toFuture();
+
+        assertFalse(inFlight.cancel("session-2", "a", null));
+        assertFalse(inFlight.cancel(null, "a", null));
+        assertFalse(pending.isDone());
+
+        assertTrue(inFlight.cancel("session-1", "a", null));
+        assertTrue(pending.isDone());
+    }
+
+    @Test
+    void testNumericAndStringIdsAreDistinct() {
+        McpInFlightRequests inFlight = new McpInFlightRequests();
+        var numeric = inFlight.track("s", 1, Mono.<McpResponse>never()).toFuture();
+        var text = inFlight.track("s", "1", Mono.<McpResponse>never()).toFuture();
+        assertEquals(2, inFlight.size());
+
+        assertTrue(inFlight.cancel("s", "1", null));
+        assertTrue(text.isDone());
+        assertFalse(numeric.isDone());
+        assertTrue(inFlight.cancel("s", 1L, null));
+        assertTrue(numeric.isDone());
+    }
+
+    @Test
+    void testFinishedRequestsAreForgotten() {
+        McpInFlightRequests inFlight = new McpInFlightRequests();
+        McpResponse response = McpResponse.success(1, "ok");
+
+        assertSame(response, inFlight.track("s", 1, Mono.just(response).delayElement(Duration.ofMillis(10))).block());
+        assertEquals(0, inFlight.size());
+        assertFalse(inFlight.cancel("s", 1, null));
+    }
+
+    @Test
+    void testAbandonedRequestsAreForgotten() {
+        McpInFlightRequests inFlight = new McpInFlightRequests();
+        var subscription = inFlight.track("s", 1, Mono.<McpResponse>never()).subscribe();
+        assertEquals(1, inFlight.size());
+
+        // 연결이 끊겨 구독이 해제된 경우
+        subscription.dispose();
+        assertEquals(0, inFlight.size());
+    }
+}
@@ -0,0 +1,196 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.McpNotification;
+import com.atlassian.mcp.core.McpNotifier;
+import com.atlassian.mcp.core.McpProgress;
+import com.atlassian.mcp.core.McpRequest;
+import com.atlassian.mcp.core.McpResponse;
+import com.atlassian.mcp.core.ToolRegistry;
+import com.atlassian.mcp.http.RateLimitExceededException;
+import com.atlassian.mcp.http.UpstreamUnavailableException;
+import com.atlassian.mcp.jira.JiraClient;
+import com.atlassian.mcp.jira.JiraReadToolsA;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpRequestHandlerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testBatchRunsConcurrentlyAndKeepsRequestOrder() throws Exception {
+        ToolRegistry registry = new ToolRegistry();
+        registry.registerAsync("slow", "slow", Map.of(),
+            params -> Mono.just("slow").delayElement(Duration.ofMillis(300)));
+        registry.registerAsync("fast", "fast", Map.of(),
+            params -> Mono.just("fast").delayElement(Duration.ofMillis(10)));
+        McpRequestHandler handler = handler(registry);
+
+        List<JsonNode> batch = elements("""
+            [{"jsonrpc":"2.0","id":1,"method":"slow"},
+             {"jsonrpc":"2.0","method":"notifications/initialized"},
+             {"jsonrpc":"2.0","id":2,"method":"fast"},
+             {"jsonrpc":"2.0","id":3,"method":"slow"}]
+            """);
+
+        long start = System.nanoTime();
+        List<McpResponse> responses = handler.handleBatch(batch, null, null).collectList().block();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // 알림은 응답 없음, 나머지는 요청 순서 유지
+        assertEquals(List.of(1, 2, 3), responses.stream().map(McpResponse::getId).toList());
+        assertEquals("slow", responses.get(0).getResult());
+        assertEquals("fast", responses.get(1).getResult());
+        // 두 slow 호출이 동시에 실행되어야 함
+        assertTrue(elapsedMillis < 550, "batch took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void testBatchReportsInvalidElementsIndividually() throws Exception {
+        McpRequestHandler handler = handler(new ToolRegistry());
+
+        List<JsonNode> batch = elements("""
+            [42,
+             {"jsonrpc":"2.0","id":"a","method":"initialize"},
+             {"jsonrpc":"2.0","id":"b","method":"ping"}]
+            """);
+
+        List<McpResponse> responses = handler.handleBatch(batch, null, null).collectList().block();
+
+        assertEquals(3, responses.size());
+        assertEquals(-32600, responses.get(0).getError().get("code"));
+        assertEquals(-32600, responses.get(1).getError().get("code"));
+        assertNull(responses.get(2).getError());
+    }
+
+    @Test
+    void testToolsCallReportsProgressWhenTokenGiven() {
+        ToolRegistry registry = new ToolRegistry();
+        registry.registerAsync("fan_out", "fan out", Map.of(), params ->
+            McpProgress.track(Flux.just("A-1", "A-2", "A-3"), 3, key -> key).collectList());
+        List<McpNotification> sent = new CopyOnWriteArrayList<>();
+        McpNotifier notifier = sent::add;
+
+        McpRequest call = new McpRequest("2.0", 1, "tools/call", Map.of(
+            "name", "fan_out",
+            "arguments", Map.of(),
+            "_meta", Map.of("progressToken", "tok-1")));
+        McpResponse response = handler(registry).handle(call, null, new MockHttpServletRequest())
+            .contextWrite(Context.of(McpNotifier.CONTEXT_KEY, notifier))
+            .block();
+
+        assertNull(response.getError());
+        assertEquals(3, sent.size());
+        assertEquals("notifications/progress", sent.get(2).getMethod());
+        assertEquals("tok-1", sent.get(2).getParams().get("progressToken"));
+        assertEquals(3L, sent.get(2).getParams().get("progress"));
+        assertEquals(3L, sent.get(2).getParams().get("total"));
+        assertEquals("A-3", sent.get(2).getParams().get("message"));
+
+        // progressToken 이 없으면 알림 없음
+        sent.clear();
+        McpRequest plain = new McpRequest("2.0", 2, "tools/call", Map.of("name", "fan_out", "arguments", Map.of()));
+        handler(registry).handle(plain, null, new MockHttpServletRequest())
+            .contextWrite(Context.of(McpNotifier.CONTEXT_KEY, notifier))
+            .block();
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRateLimitedToolCallReturnsRateLimitedCode() {
+        JiraReadToolsA tools = new JiraReadToolsA(() -> failingClient(
+            new RateLimitExceededException("token", Duration.ofSeconds(2))));
+        ToolRegistry registry = new ToolRegistry();
+        registry.registerAsync("jira_batch_get_changelogs", "changelogs", Map.of(),
+            params -> tools.batchGetChangelogs((Map<String, Object>) params));
+
+        McpResponse response = handler(registry).handle(changelogsCall(), null, new MockHttpServletRequest()).block();
+
+        assertEquals(McpRequestHandler.RATE_LIMITED, response.getError().get("code"));
+        assertTrue(response.getError().get("message").toString().contains("retry in 2s"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOpenCircuitReturnsUpstreamUnavailableCode() {
+        JiraReadToolsA tools = new JiraReadToolsA(() -> failingClient(
+            UpstreamUnavailableException.circuitOpen("jira", Duration.ofSeconds(30))));
+        ToolRegistry registry = new ToolRegistry();
+        registry.registerAsync("jira_batch_get_changelogs", "changelogs", Map.of(),
+            params -> tools.batchGetChangelogs((Map<String, Object>) params));
+
+        McpResponse response = handler(registry).handle(changelogsCall(), null, new MockHttpServletRequest()).block();
+
+        assertEquals(McpRequestHandler.UPSTREAM_UNAVAILABLE, response.getError().get("code"));
+        assertTrue(response.getError().get("message").toString().startsWith("jira is unavailable"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOtherToolFailuresStayInTheResult() {
+        JiraReadToolsA tools = new JiraReadToolsA(() -> failingClient(new IllegalStateException("boom")));
+        ToolRegistry registry = new ToolRegistry();
+        registry.registerAsync("jira_batch_get_changelogs", "changelogs", Map.of(),
+            params -> tools.batchGetChangelogs((Map<String, Object>) params));
+
+        McpResponse response = handler(registry).handle(changelogsCall(), null, new MockHttpServletRequest()).block();
+
+        assertNull(response.getError());
+        JsonNode result = json(json(toJson(response)).at("/result/content/0/text").asText());
+        assertFalse(result.path("success").asBoolean(true));
+        assertEquals("boom", result.path("error").asText());
+    }
+
+    private JiraClient failingClient(RuntimeException error) {
+        WebClient webClient = WebClient.builder().exchangeFunction(request -> Mono.error(error)).build();
+        return new JiraClient(webClient, "token", mapper);
+    }
+
+    private McpRequest changelogsCall() {
+        return new McpRequest("2.0", 1, "tools/call", Map.of(
+            "name", "jira_batch_get_changelogs",
+            "arguments", Map.of("issue_ids_or_keys", List.of("PROJ-1"))));
+    }
+
+    private String toJson(McpResponse response) {
+        try {
+            return mapper.writeValueAsString(response);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode json(String text) {
+        try {
+            return mapper.readTree(text);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private McpRequestHandler handler(ToolRegistry registry) {
+        return new McpRequestHandler(registry, new ToolListCache(registry, mapper), new McpInFlightRequests(),
+            new ToolDispatcher(registry, "async"), mapper, null, "none", 8);
+    }
+
+    private List<JsonNode> elements(String json) throws Exception {
+        List<JsonNode> elements = new ArrayList<>();
+        mapper.readTree(json).forEach(elements::add);
+        return elements;
+    }
+}
@@ -0,0 +1,36 @@
+package com.atlassian.mcp.server;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpStreamFormatTest {
+
+    @Test
+    void testWildcardAcceptFallsBackToJson() {
+        // 스트리밍은 Accept에 명시된 경우에만 - 기존 JSON 클라이언트 호환
+        assertEquals(McpStreamFormat.JSON, McpStreamFormat.negotiate(null, McpStreamFormat.NDJSON));
+        assertEquals(McpStreamFormat.JSON, McpStreamFormat.negotiate("*/*", McpStreamFormat.SSE));
+    }
+
+    @Test
+    void testPreferredFormatWinsWhenAccepted() {
+        String accept = "application/json, text/event-stream, application/x-ndjson";
+        assertEquals(McpStreamFormat.NDJSON, McpStreamFormat.negotiate(accept, McpStreamFormat.NDJSON));
+        assertEquals(McpStreamFormat.SSE, McpStreamFormat.negotiate(accept, McpStreamFormat.SSE));
+        assertEquals(McpStreamFormat.JSON, McpStreamFormat.negotiate(accept, McpStreamFormat.JSON));
+    }
+
+    @Test
+    void testExplicitStreamingAcceptOverridesPreference() {
+        assertEquals(McpStreamFormat.SSE, McpStreamFormat.negotiate("text/event-stream", McpStreamFormat.NDJSON));
+        assertEquals(McpStreamFormat.NDJSON, McpStreamFormat.negotiate("application/x-ndjson", McpStreamFormat.JSON));
+    }
+
+    @Test
+    void testFromConfigIsLenient() {
+        assertEquals(McpStreamFormat.SSE, McpStreamFormat.fromConfig(" SSE "));
+        assertEquals(McpStreamFormat.JSON, McpStreamFormat.fromConfig("unknown"));
+        assertEquals(McpStreamFormat.JSON, McpStreamFormat.fromConfig(null));
+    }
+}
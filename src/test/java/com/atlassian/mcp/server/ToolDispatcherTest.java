@@ -0,0 +1,92 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.ToolRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.Disposable;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolDispatcherTest {
+
+    @Test
+    void testVirtualModeRunsToolOnVirtualThreadWithRequestContext() {
+        ToolRegistry registry = new ToolRegistry();
+        AtomicReference<Thread> toolThread = new AtomicReference<>();
+        registry.register("token_echo", params -> {
+            toolThread.set(Thread.currentThread());
+            // 도구는 요청 스코프에서 토큰을 읽는다 (AtlassianClientFactory 와 동일)
+            var attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            return attrs.getRequest().getAttribute("jira_token");
+        });
+        ToolDispatcher dispatcher = new ToolDispatcher(registry, "virtual");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("jira_token", "secret");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            assertEquals("secret", dispatcher.invoke("token_echo", Map.of()).block());
+            assertTrue(toolThread.get().isVirtual());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void testUnknownToolFailsInBothModes() {
+        ToolRegistry registry = new ToolRegistry();
+        registry.registerAsync("async_tool", "async", Map.of(), params -> Mono.just("ok"));
+        ToolDispatcher async = new ToolDispatcher(registry, "async");
+        ToolDispatcher virtual = new ToolDispatcher(registry, "virtual");
+        try {
+            assertEquals(ToolDispatcher.Mode.ASYNC, async.getMode());
+            assertEquals("ok", virtual.invoke("async_tool", null).block());
+            assertThrows(IllegalArgumentException.class, () -> async.invoke("missing", null));
+            assertThrows(IllegalArgumentException.class, () -> virtual.invoke("missing", null).block());
+        } finally {
+            virtual.destroy();
+        }
+    }
+
+    @Test
+    void testCancelledVirtualCallEndsQuietly() throws Exception {
+        ToolRegistry registry = new ToolRegistry();
+        AtomicReference<Thread> toolThread = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch upstreamCancelled = new CountDownLatch(1);
+        registry.registerAsync("slow", "slow", Map.of(), params -> {
+            toolThread.set(Thread.currentThread());
+            started.countDown();
+            return Mono.never().doOnCancel(upstreamCancelled::countDown);
+        });
+        ToolDispatcher dispatcher = new ToolDispatcher(registry, "virtual");
+        List<Throwable> dropped = new CopyOnWriteArrayList<>();
+        Hooks.onErrorDropped(dropped::add);
+        try {
+            Disposable call = dispatcher.invoke("slow", null).subscribe();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            call.dispose();
+            // 인터럽트된 block() 이 도구의 Mono 를 취소하고 가상 스레드가 끝난다
+            assertTrue(upstreamCancelled.await(5, TimeUnit.SECONDS));
+            toolThread.get().join(5000);
+            assertFalse(toolThread.get().isAlive());
+            assertTrue(dropped.isEmpty(), () -> "dropped: " + dropped);
+        } finally {
+            Hooks.resetOnErrorDropped();
+            dispatcher.destroy();
+        }
+    }
+}
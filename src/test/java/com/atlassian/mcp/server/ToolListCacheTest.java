@@ -0,0 +1,74 @@
+package com.atlassian.mcp.server;
+
+import com.atlassian.mcp.core.ToolRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolListCacheTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testReadonlyVariantExcludesWriteTools() throws Exception {
+        ToolRegistry registry = new ToolRegistry();
+        registry.register("read_tool", "read", Map.of(), true, params -> params);
+        registry.register("write_tool", "write", Map.of(), false, params -> params);
+        ToolListCache cache = new ToolListCache(registry, mapper);
+
+        JsonNode full = mapper.readTree(cache.toolsList(false).bytes());
+        JsonNode readonly = mapper.readTree(cache.toolsList(true).bytes());
+
+        assertEquals(2, full.get("tools").size());
+        assertEquals(1, readonly.get("tools").size());
+        assertEquals("read_tool", readonly.get("tools").get(0).get("name").asText());
+        assertEquals(1, mapper.readTree(cache.toolsDocument(true).bytes()).get("totalTools").asInt());
+        assertNotEquals(cache.toolsList(false).etag(), cache.toolsList(true).etag());
+    }
+
+    @Test
+    void testPayloadReusedUntilRegistryChanges() {
+        ToolRegistry registry = new ToolRegistry();
+        registry.register("a", "a", Map.of(), params -> params);
+        ToolListCache cache = new ToolListCache(registry, mapper);
+
+        ToolListCache.Payload first = cache.toolsDocument(false);
+        assertSame(first, cache.toolsDocument(false));
+
+        registry.register("b", "b", Map.of(), params -> params);
+        ToolListCache.Payload second = cache.toolsDocument(false);
+
+        assertNotSame(first, second);
+        assertNotEquals(first.etag(), second.etag());
+    }
+
+    @Test
+    void testRawValueEmbedsSameJson() throws Exception {
+        ToolRegistry registry = new ToolRegistry();
+        registry.register("a", "설명 \"quoted\"", Map.of("type", "object"), params -> params);
+        ToolListCache cache = new ToolListCache(registry, mapper);
+
+        String json = mapper.writeValueAsString(Map.of("result", cache.toolsList(false).raw()));
+
+        assertEquals(mapper.readTree(cache.toolsList(false).bytes()), mapper.readTree(json).get("result"));
+    }
+
+    @Test
+    void testGzipVariantDecodesToSameBytesWithDistinctEtag() throws Exception {
+        ToolRegistry registry = new ToolRegistry();
+        registry.register("a", "a", Map.of(), params -> params);
+        ToolListCache.Payload document = new ToolListCache(registry, mapper).toolsDocument(false);
+
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(document.gzipBytes()))) {
+            assertArrayEquals(document.bytes(), gzip.readAllBytes());
+        }
+        assertNotEquals(document.etag(), document.gzipEtag());
+        assertTrue(document.gzipEtag().startsWith("\"") && document.gzipEtag().endsWith("-gzip\""));
+    }
+}